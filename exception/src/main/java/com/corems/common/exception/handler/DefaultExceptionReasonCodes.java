@@ -21,6 +21,7 @@ public enum DefaultExceptionReasonCodes implements ExceptionReasonCodes {
     INVALID_REQUEST("invalid.request", HttpStatus.BAD_REQUEST, "Invalid request"),
     INVALID_INPUT_DATA("invalid.data", HttpStatus.BAD_REQUEST, "Invalid input data"),
     CONFLICT("resource.conflict", HttpStatus.CONFLICT, "Resource conflict detected"),
+    TOO_MANY_REQUESTS("request.rate_limited", HttpStatus.TOO_MANY_REQUESTS, "Too many requests. Try again later."),
 
     PARAMETER_INVALID("parameter.invalid", HttpStatus.BAD_REQUEST, "Parameter invalid"),
     REQUEST_PARAMETER_MISSING("request.parameter.missing", HttpStatus.BAD_REQUEST, "Request parameter is missing"),
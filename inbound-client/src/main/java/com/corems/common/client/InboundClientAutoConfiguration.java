@@ -1,9 +1,8 @@
 package com.corems.common.client;
 
 import com.corems.common.logging.CorrelationIdFilter;
-import com.corems.common.security.UserPrincipal;
+import com.corems.common.security.config.CoremsJwtProperties;
 import com.corems.common.security.service.TokenProvider;
-import com.corems.common.security.CoreMsRoles;
 import io.netty.channel.ChannelOption;
 import org.slf4j.MDC;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -12,20 +11,14 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Qualifier;
 
@@ -50,35 +43,22 @@ public class InboundClientAutoConfiguration {
         });
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public ServiceTokenMinter serviceTokenMinter(TokenProvider tokenProvider, CoremsJwtProperties jwtProperties,
+                                                 InboundClientProperties props) {
+        return new ServiceTokenMinter(tokenProvider,
+                Duration.ofMinutes(jwtProperties.getAccessExpirationTimeInMinutes()),
+                props.getTokenRefreshAhead(),
+                props.getTokenCacheSize());
+    }
+
     @Bean
     @ConditionalOnMissingBean(name = "bearerTokenFilter")
-    public ExchangeFilterFunction bearerTokenFilter(TokenProvider tokenProvider) {
+    public ExchangeFilterFunction bearerTokenFilter(ServiceTokenMinter serviceTokenMinter) {
         return ExchangeFilterFunction.ofRequestProcessor(request -> {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-            String token;
-            if (authentication != null && authentication.isAuthenticated()
-                    && authentication.getPrincipal() instanceof UserPrincipal principal
-                    && principal.getUserId() != null) {
-
-                Map<String, Object> claims = new HashMap<>();
-                claims.put(TokenProvider.CLAIM_EMAIL, principal.getEmail());
-                claims.put(TokenProvider.CLAIM_FIRST_NAME, principal.getFirstName());
-                claims.put(TokenProvider.CLAIM_LAST_NAME, principal.getLastName());
-                claims.put(TokenProvider.CLAIM_ROLES, principal.getAuthorities().stream()
-                        .map(GrantedAuthority::getAuthority)
-                        .toList());
-
-                token = tokenProvider.createAccessToken(principal.getUserId().toString(), claims);
-            } else {
-                Map<String, Object> claims = new HashMap<>();
-                claims.put(TokenProvider.CLAIM_ROLES, List.of(CoreMsRoles.SYSTEM));
-
-                token = tokenProvider.createAccessToken(null, claims);
-            }
-
             ClientRequest modifiedRequest = ClientRequest.from(request)
-                    .header("Authorization", "Bearer " + token)
+                    .header("Authorization", "Bearer " + serviceTokenMinter.currentToken())
                     .build();
 
             return Mono.just(modifiedRequest);
@@ -105,7 +85,7 @@ public class InboundClientAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(name = "inboundRestClientBuilder")
-    public RestClient.Builder inboundRestClientBuilder(TokenProvider tokenProvider) {
+    public RestClient.Builder inboundRestClientBuilder(ServiceTokenMinter serviceTokenMinter) {
         return RestClient.builder()
                 .requestInterceptor((request, body, execution) -> {
                     // Add correlation ID
@@ -116,29 +96,7 @@ public class InboundClientAutoConfiguration {
                     request.getHeaders().add(CorrelationIdFilter.HEADER_X_CORRELATION_ID, correlationId);
 
                     // Add bearer token
-                    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                    String token;
-                    if (authentication != null && authentication.isAuthenticated()
-                            && authentication.getPrincipal() instanceof UserPrincipal principal 
-                            && principal.getUserId() != null) {
-
-                        Map<String, Object> claims = new HashMap<>();
-                        claims.put(TokenProvider.CLAIM_EMAIL, principal.getEmail());
-                        claims.put(TokenProvider.CLAIM_FIRST_NAME, principal.getFirstName());
-                        claims.put(TokenProvider.CLAIM_LAST_NAME, principal.getLastName());
-                        claims.put(TokenProvider.CLAIM_ROLES, principal.getAuthorities().stream()
-                                .map(GrantedAuthority::getAuthority)
-                                .toList());
-
-                        token = tokenProvider.createAccessToken(principal.getUserId().toString(), claims);
-                    } else {
-                        Map<String, Object> claims = new HashMap<>();
-                        claims.put(TokenProvider.CLAIM_ROLES, List.of(CoreMsRoles.SYSTEM));
-
-                        token = tokenProvider.createAccessToken(null, claims);
-                    }
-
-                    request.getHeaders().add(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+                    request.getHeaders().add(HttpHeaders.AUTHORIZATION, "Bearer " + serviceTokenMinter.currentToken());
                     return execution.execute(request, body);
                 });
     }
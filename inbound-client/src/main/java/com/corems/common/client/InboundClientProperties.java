@@ -1,12 +1,20 @@
 package com.corems.common.client;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Getter
+@Setter
 @ConfigurationProperties(prefix = "corems.client")
 public class InboundClientProperties {
 
     private final int defaultTimeoutSeconds = 10;
+    // Start re-signing a cached outbound token this long before it expires
+    private Duration tokenRefreshAhead = Duration.ofMinutes(2);
+    // Maximum number of identities with a cached outbound token
+    private long tokenCacheSize = 1_000;
 }
 
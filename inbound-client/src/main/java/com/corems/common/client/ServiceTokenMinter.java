@@ -0,0 +1,104 @@
+package com.corems.common.client;
+
+import com.corems.common.security.CoreMsRoles;
+import com.corems.common.security.UserPrincipal;
+import com.corems.common.security.service.TokenProvider;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Mints access tokens for outbound service calls and reuses them per identity.
+ * <p>
+ * Tokens are cached by subject, profile claims and roles. Once a token passes the refresh point
+ * the next caller still gets it while a replacement is signed in the background; a token is never
+ * handed out after the expiry margin. The SYSTEM identity therefore signs roughly once per lifetime.
+ */
+@Slf4j
+public class ServiceTokenMinter {
+
+    private static final MintKey SYSTEM_KEY = new MintKey(null, null, null, null, List.of(CoreMsRoles.SYSTEM.name()));
+
+    private final TokenProvider tokenProvider;
+    private final LoadingCache<MintKey, String> tokens;
+
+    public ServiceTokenMinter(TokenProvider tokenProvider, Duration tokenLifetime, Duration refreshAhead, long maximumSize) {
+        this(tokenProvider, tokenLifetime, refreshAhead, maximumSize, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    // Ticker and executor are swappable so tests can drive refresh and expiry deterministically
+    ServiceTokenMinter(TokenProvider tokenProvider, Duration tokenLifetime, Duration refreshAhead, long maximumSize,
+                       Ticker ticker, Executor executor) {
+        this.tokenProvider = tokenProvider;
+
+        // Never hand out a token in its last tenth of life (at most 30s)
+        long lifetimeMs = tokenLifetime.toMillis();
+        long expireAfterMs = lifetimeMs - Math.min(30_000L, lifetimeMs / 10);
+        long refreshAfterMs = Math.max(lifetimeMs / 2, lifetimeMs - refreshAhead.toMillis());
+        refreshAfterMs = Math.min(refreshAfterMs, expireAfterMs - 1);
+
+        this.tokens = Caffeine.newBuilder()
+                .ticker(ticker)
+                .executor(executor)
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(Math.max(1L, expireAfterMs)))
+                .refreshAfterWrite(Duration.ofMillis(Math.max(1L, refreshAfterMs)))
+                .build(this::mint);
+    }
+
+    /**
+     * Token for the current security context: the authenticated user when there is one, SYSTEM otherwise.
+     */
+    public String currentToken() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getUserId() != null) {
+            return tokens.get(MintKey.of(principal));
+        }
+        return tokens.get(SYSTEM_KEY);
+    }
+
+    long cachedTokenCount() {
+        tokens.cleanUp();
+        return tokens.estimatedSize();
+    }
+
+    private String mint(MintKey key) {
+        Map<String, Object> claims = new HashMap<>();
+        if (key.subject() == null) {
+            claims.put(TokenProvider.CLAIM_ROLES, List.of(CoreMsRoles.SYSTEM));
+            return tokenProvider.createAccessToken(null, claims);
+        }
+
+        claims.put(TokenProvider.CLAIM_EMAIL, key.email());
+        claims.put(TokenProvider.CLAIM_FIRST_NAME, key.firstName());
+        claims.put(TokenProvider.CLAIM_LAST_NAME, key.lastName());
+        claims.put(TokenProvider.CLAIM_ROLES, key.roles());
+        log.debug("Minting service token for subject={}", key.subject());
+        return tokenProvider.createAccessToken(key.subject(), claims);
+    }
+
+    private record MintKey(String subject, String email, String firstName, String lastName, List<String> roles) {
+        static MintKey of(UserPrincipal principal) {
+            List<String> roles = new ArrayList<>(principal.getAuthorities().size());
+            for (GrantedAuthority authority : principal.getAuthorities()) {
+                roles.add(authority.getAuthority());
+            }
+            return new MintKey(principal.getUserId().toString(), principal.getEmail(),
+                    principal.getFirstName(), principal.getLastName(), List.copyOf(roles));
+        }
+    }
+}
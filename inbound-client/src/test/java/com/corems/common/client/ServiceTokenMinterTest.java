@@ -0,0 +1,150 @@
+package com.corems.common.client;
+
+import com.corems.common.security.CoreMsRoles;
+import com.corems.common.security.UserPrincipal;
+import com.corems.common.security.service.TokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ServiceTokenMinterTest {
+
+    // 10 minute tokens: refresh after 8 minutes, never handed out after 9m30s
+    private static final Duration LIFETIME = Duration.ofMinutes(10);
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(2);
+
+    private final TokenProvider tokenProvider = mock(TokenProvider.class);
+    private final AtomicInteger minted = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+    private final Deque<Runnable> pending = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        when(tokenProvider.createAccessToken(any(), anyMap()))
+                .thenAnswer(_ -> "token-" + minted.incrementAndGet());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void currentToken_SameUser_ReusesCachedToken() {
+        ServiceTokenMinter minter = minter(100);
+        UUID userId = authenticate(UUID.randomUUID());
+
+        String first = minter.currentToken();
+        advance(Duration.ofMinutes(5));
+
+        assertEquals(first, minter.currentToken());
+        verify(tokenProvider, times(1)).createAccessToken(eq(userId.toString()), anyMap());
+    }
+
+    @Test
+    void currentToken_PastRefreshPoint_ReturnsCachedTokenAndRefreshesInBackground() {
+        ServiceTokenMinter minter = minter(100);
+
+        assertEquals("token-1", minter.currentToken());
+        advance(Duration.ofMinutes(8).plusSeconds(1));
+
+        assertEquals("token-1", minter.currentToken());
+        assertEquals(1, minted.get());
+
+        runPending();
+
+        assertEquals(2, minted.get());
+        assertEquals("token-2", minter.currentToken());
+    }
+
+    @Test
+    void currentToken_PastExpiryMargin_MintsFreshTokenInline() {
+        ServiceTokenMinter minter = minter(100);
+
+        assertEquals("token-1", minter.currentToken());
+        advance(Duration.ofMinutes(9).plusSeconds(31));
+
+        assertEquals("token-2", minter.currentToken());
+        assertEquals(2, minted.get());
+    }
+
+    @Test
+    void currentToken_SystemAndUser_UseSeparateCacheEntries() {
+        ServiceTokenMinter minter = minter(100);
+
+        String system = minter.currentToken();
+        UUID userId = authenticate(UUID.randomUUID());
+        String user = minter.currentToken();
+        SecurityContextHolder.clearContext();
+
+        assertNotEquals(system, user);
+        assertEquals(system, minter.currentToken());
+        verify(tokenProvider, times(1)).createAccessToken(isNull(), anyMap());
+        verify(tokenProvider, times(1)).createAccessToken(eq(userId.toString()), anyMap());
+    }
+
+    @Test
+    void currentToken_DifferentUsers_MintSeparateTokens() {
+        ServiceTokenMinter minter = minter(100);
+
+        authenticate(UUID.randomUUID());
+        String first = minter.currentToken();
+        authenticate(UUID.randomUUID());
+        String second = minter.currentToken();
+
+        assertNotEquals(first, second);
+        assertEquals(2, minted.get());
+    }
+
+    @Test
+    void currentToken_MoreIdentitiesThanCacheSize_EvictsDownToCap() {
+        ServiceTokenMinter minter = minter(2);
+
+        minter.currentToken();
+        for (int i = 0; i < 5; i++) {
+            authenticate(UUID.randomUUID());
+            minter.currentToken();
+        }
+
+        assertEquals(6, minted.get());
+        assertEquals(2, minter.cachedTokenCount());
+    }
+
+    private ServiceTokenMinter minter(long maximumSize) {
+        return new ServiceTokenMinter(tokenProvider, LIFETIME, REFRESH_AHEAD, maximumSize, nanos::get, pending::add);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void runPending() {
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static UUID authenticate(UUID userId) {
+        UserPrincipal principal = new UserPrincipal(userId, "user@corems.com", "Test", "User", UUID.randomUUID(),
+                List.of(new SimpleGrantedAuthority(CoreMsRoles.USER_MS_USER.name())));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        return userId;
+    }
+}
@@ -1,7 +1,10 @@
 package com.corems.common.queue;
 
-import com.corems.common.security.SecurityUtils;
-import com.corems.common.security.UserPrincipal;
+import com.corems.common.queue.util.QueueMessageIds;
+import com.corems.common.queue.util.QueueSecurityContextUtil;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,9 +13,6 @@ import java.io.Serializable;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Setter
 @Getter
@@ -20,18 +20,43 @@ public class QueueMessage implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
     
-    private String id = UUID.randomUUID().toString();
+    private String id;
     private String type;
     private Object payload;
     private int attempts = 0;
-    private Map<String, String> headers = new HashMap<>();
-    private Instant createdAt = Instant.now();
+    // Allocated on first write, most messages carry no headers. Serialized from the field so that
+    // Jackson does not allocate it through getHeaders(), and omitted when empty.
+    @JsonProperty("headers")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, String> headers;
+    private Instant createdAt;
     private Instant lastAttemptAt;
     private String sourceService;
     private String correlationId;
     private Integer priority = 0;
     private Instant expiresAt;
     private QueueUser user;
+
+    public QueueMessage() {
+        long now = System.currentTimeMillis();
+        this.id = QueueMessageIds.next(now);
+        this.createdAt = Instant.ofEpochMilli(now);
+    }
+
+    @JsonIgnore
+    public Map<String, String> getHeaders() {
+        if (headers == null) {
+            headers = new HashMap<>(4);
+        }
+        return headers;
+    }
+
+    /**
+     * Header lookup that does not allocate the header map.
+     */
+    public String getHeader(String key) {
+        return headers == null ? null : headers.get(key);
+    }
     
     public void incrementAttempts() {
         this.attempts++;
@@ -53,7 +78,7 @@ public class QueueMessage implements Serializable {
     }
     
     public QueueMessage withHeader(String key, String value) {
-        this.headers.put(key, value);
+        getHeaders().put(key, value);
         return this;
     }
     
@@ -62,23 +87,14 @@ public class QueueMessage implements Serializable {
         return this;
     }
     
+    /**
+     * Attach a snapshot of the current authenticated user. Each message gets its own copy.
+     */
     public QueueMessage withUserFromSecurityContext() {
-        Optional<UserPrincipal> userPrincipal = SecurityUtils.getUserPrincipalOptional();
-        if (userPrincipal.isPresent()) {
-            UserPrincipal principal = userPrincipal.get();
-            if (principal.getUserId() != null) {
-                this.user = new QueueUser(
-                    principal.getUserId(),
-                    principal.getEmail(),
-                    principal.getFirstName(),
-                    principal.getLastName(),
-                    principal.getAuthorities().stream()
-                        .map(auth -> auth.getAuthority())
-                        .collect(Collectors.toList())
-                );
-            }
+        QueueUser current = QueueSecurityContextUtil.currentQueueUser();
+        if (current != null) {
+            this.user = current;
         }
         return this;
     }
 }
-
@@ -0,0 +1,96 @@
+package com.corems.common.queue.clients;
+
+import com.corems.common.queue.config.QueueProperties;
+import com.rabbitmq.client.impl.nio.NioParams;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Owns the RabbitMQ connections shared by all clients and pollers of a service.
+ * <p>
+ * Consumers use the main connection and publishers use a separate connection (unless disabled),
+ * each with its own channel cache. Templates created here share these connections.
+ */
+@Slf4j
+public class RabbitConnectionManager implements AutoCloseable {
+
+    @Getter
+    private final CachingConnectionFactory connectionFactory;
+    private final QueueProperties.RabbitConnectionSettings settings;
+
+    public RabbitConnectionManager(QueueProperties.RabbitMqProperties rabbitProps) {
+        this.settings = rabbitProps.getConnection() != null
+                ? rabbitProps.getConnection()
+                : new QueueProperties.RabbitConnectionSettings();
+        this.connectionFactory = createConnectionFactory(rabbitProps, settings);
+    }
+
+    private static CachingConnectionFactory createConnectionFactory(QueueProperties.RabbitMqProperties rabbitProps,
+                                                                    QueueProperties.RabbitConnectionSettings settings) {
+        com.rabbitmq.client.ConnectionFactory rabbitFactory = new com.rabbitmq.client.ConnectionFactory();
+        rabbitFactory.setHost(rabbitProps.getHost());
+        rabbitFactory.setPort(rabbitProps.getPort());
+        if (settings.getVirtualHost() != null && !settings.getVirtualHost().isBlank()) {
+            rabbitFactory.setVirtualHost(settings.getVirtualHost());
+        }
+        if (rabbitProps.getUsername() != null && !rabbitProps.getUsername().isBlank()) {
+            rabbitFactory.setUsername(rabbitProps.getUsername());
+        }
+        if (rabbitProps.getPassword() != null && !rabbitProps.getPassword().isBlank()) {
+            rabbitFactory.setPassword(rabbitProps.getPassword());
+        }
+        rabbitFactory.setRequestedHeartbeat((int) settings.getRequestedHeartbeat().toSeconds());
+        rabbitFactory.setConnectionTimeout(connectionTimeout(rabbitProps, settings));
+        if (settings.getNioThreads() > 0) {
+            rabbitFactory.useNio();
+            rabbitFactory.setNioParams(new NioParams().setNbIoThreads(settings.getNioThreads()));
+        }
+
+        CachingConnectionFactory factory = new CachingConnectionFactory(rabbitFactory);
+        factory.setCacheMode(CachingConnectionFactory.CacheMode.CHANNEL);
+        factory.setChannelCacheSize(settings.getConsumerChannelCacheSize());
+        factory.setChannelCheckoutTimeout(settings.getChannelCheckoutTimeout().toMillis());
+        factory.setConnectionNameStrategy(cf -> "corems-consumer");
+
+        if (settings.isSeparatePublisherConnection()) {
+            // Publisher factory paired with the consumer one over the same client factory; size and name it separately
+            CachingConnectionFactory publisherFactory = (CachingConnectionFactory) factory.getPublisherConnectionFactory();
+            publisherFactory.setChannelCacheSize(settings.getPublisherChannelCacheSize());
+            publisherFactory.setConnectionNameStrategy(cf -> "corems-publisher");
+        }
+        return factory;
+    }
+
+    private static int connectionTimeout(QueueProperties.RabbitMqProperties rabbitProps,
+                                         QueueProperties.RabbitConnectionSettings settings) {
+        // Legacy connectionProperties.connectionTimeout still wins when present
+        Object legacy = rabbitProps.getConnectionProperties() != null
+                ? rabbitProps.getConnectionProperties().get("connectionTimeout")
+                : null;
+        if (legacy != null) {
+            return Integer.parseInt(legacy.toString());
+        }
+        return (int) settings.getConnectionTimeout().toMillis();
+    }
+
+    /**
+     * Create a template over the shared connections. Sends use the publisher connection
+     * when it is enabled; receives always use the consumer connection.
+     */
+    public RabbitTemplate createTemplate(MessageConverter converter, long receiveTimeoutMs) {
+        RabbitTemplate rt = new RabbitTemplate(connectionFactory);
+        rt.setMessageConverter(converter);
+        rt.setUsePublisherConnection(settings.isSeparatePublisherConnection());
+        rt.setReceiveTimeout(receiveTimeoutMs);
+        return rt;
+    }
+
+    @Override
+    public void close() {
+        connectionFactory.destroy();
+        log.info("Closed RabbitMQ connections");
+    }
+}
@@ -8,7 +8,6 @@ import com.corems.common.queue.config.QueueProperties;
 import com.corems.common.queue.util.QueueMDCUtil;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.MessageConverter;
 
@@ -44,8 +43,18 @@ public class RabbitMqClient implements QueueClient {
 
     public static RabbitMqClient createRabbitMqClient(QueueProperties.RabbitMqProperties rabbitProps, MessageConverter converter) {
         validate(rabbitProps);
+        return createRabbitMqClient(rabbitProps, converter, new RabbitConnectionManager(rabbitProps));
+    }
+
+    /**
+     * Create a client over connections owned by the given manager, so several clients and
+     * their pollers share the same publisher and consumer connections.
+     */
+    public static RabbitMqClient createRabbitMqClient(QueueProperties.RabbitMqProperties rabbitProps, MessageConverter converter,
+                                                      RabbitConnectionManager connectionManager) {
+        validate(rabbitProps);
 
-        final RabbitTemplate rt = getRabbitTemplate(rabbitProps, converter);
+        final RabbitTemplate rt = connectionManager.createTemplate(converter, rabbitProps.getPollIntervalMs());
         final List<String> queuesToCheck = getQueues(rabbitProps);
 
         RabbitMqClient rabbitMqClient = new RabbitMqClient(rt, rabbitProps);
@@ -92,35 +101,6 @@ public class RabbitMqClient implements QueueClient {
         return queuesToCheck;
     }
 
-    private static RabbitTemplate getRabbitTemplate(QueueProperties.RabbitMqProperties rabbitProps, MessageConverter converter) {
-        CachingConnectionFactory connectionFactory = new CachingConnectionFactory(rabbitProps.getHost(), rabbitProps.getPort());
-        if (rabbitProps.getUsername() != null && !rabbitProps.getUsername().isBlank()) {
-            connectionFactory.setUsername(rabbitProps.getUsername());
-        }
-        if (rabbitProps.getPassword() != null && !rabbitProps.getPassword().isBlank()) {
-            connectionFactory.setPassword(rabbitProps.getPassword());
-        }
-
-        // Apply connection optimizations from blog posts
-        connectionFactory.setChannelCacheSize(25);
-        connectionFactory.setConnectionCacheSize(1);
-        
-        // Apply custom connection properties if configured
-        if (!rabbitProps.getConnectionProperties().isEmpty()) {
-            connectionFactory.getRabbitConnectionFactory().setConnectionTimeout(
-                (Integer) rabbitProps.getConnectionProperties().getOrDefault("connectionTimeout", 30000)
-            );
-        }
-
-        RabbitTemplate rt = new RabbitTemplate(connectionFactory);
-        rt.setMessageConverter(converter);
-        
-        // Set receive timeout for polling operations
-        rt.setReceiveTimeout(rabbitProps.getPollIntervalMs());
-        
-        return rt;
-    }
-
     public RabbitMqClient(RabbitTemplate rabbitTemplate, QueueProperties.RabbitMqProperties props) {
         this.rabbitTemplate = rabbitTemplate;
         this.props = props;
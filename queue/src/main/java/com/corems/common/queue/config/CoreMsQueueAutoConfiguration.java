@@ -1,10 +1,15 @@
 package com.corems.common.queue.config;
 
 import com.corems.common.queue.QueueProvider;
+import com.corems.common.queue.clients.RabbitConnectionManager;
 import com.corems.common.queue.clients.RabbitMqClient;
 import com.corems.common.queue.SupportedQueueProvider;
+import com.corems.common.queue.replay.DeadLetterReplayer;
 import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,17 +24,34 @@ public class CoreMsQueueAutoConfiguration {
         return new JacksonJsonMessageConverter();
     }
 
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "queue", name = "enabled", havingValue = "true")
+    public RabbitConnectionManager rabbitConnectionManager(QueueProperties props) {
+        QueueProperties.RabbitMqProperties rabbitProps = props.getProviders().getRabbitMq();
+        RabbitMqClient.validate(rabbitProps);
+        return new RabbitConnectionManager(rabbitProps);
+    }
+
     @Bean
-    public QueueProvider queueProvider(QueueProperties props, MessageConverter converter) {
+    public QueueProvider queueProvider(QueueProperties props, MessageConverter converter,
+                                       ObjectProvider<RabbitConnectionManager> connectionManager) {
         QueueProvider provider = new QueueProvider(props);
 
         QueueProperties.RabbitMqProperties rabbitProps = props.getProviders().getRabbitMq();
-        if (props.isEnabled() && rabbitProps != null) {
+        RabbitConnectionManager manager = connectionManager.getIfAvailable();
+        if (props.isEnabled() && rabbitProps != null && manager != null) {
             provider.registerProvider(
                     SupportedQueueProvider.RABBIT_MQ,
-                    RabbitMqClient.createRabbitMqClient(rabbitProps, converter));
+                    RabbitMqClient.createRabbitMqClient(rabbitProps, converter, manager));
         }
 
         return provider;
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "queue", name = "enabled", havingValue = "true")
+    public DeadLetterReplayer deadLetterReplayer(QueueProvider queueProvider) {
+        return new DeadLetterReplayer(queueProvider.getDefaultClient());
+    }
 }
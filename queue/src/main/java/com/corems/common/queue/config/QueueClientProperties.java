@@ -1,7 +1,11 @@
 package com.corems.common.queue.config;
 
+import java.util.List;
+
 public interface QueueClientProperties {
     int getRetryCount();
     long getPollIntervalMs();
     String getDefaultQueue();
+    List<String> getRequiredQueues();
+    QueueProperties.PollerSettings getPoller();
 }
@@ -60,9 +60,27 @@ public class QueueProperties {
         private boolean durableQueues = true;
         private boolean autoDeleteQueues = false;
         private RetryPolicy retryPolicy = new RetryPolicy();
+        private PollerSettings poller = new PollerSettings();
+        private RabbitConnectionSettings connection = new RabbitConnectionSettings();
         private Map<String, Object> connectionProperties = new HashMap<>();
     }
 
+    @Getter
+    @Setter
+    public static class RabbitConnectionSettings {
+        private String virtualHost = "/";
+        // Publish over a dedicated connection so broker flow control on publishers does not block consumers
+        private boolean separatePublisherConnection = true;
+        private int consumerChannelCacheSize = 25;
+        private int publisherChannelCacheSize = 25;
+        // Wait this long for a free channel when the cache is exhausted; zero means open extra channels
+        private Duration channelCheckoutTimeout = Duration.ZERO;
+        private Duration requestedHeartbeat = Duration.ofSeconds(60);
+        private Duration connectionTimeout = Duration.ofSeconds(30);
+        // Number of NIO threads; zero keeps the blocking IO client
+        private int nioThreads = 0;
+    }
+
     @Getter
     @Setter
     public static class SqsProperties implements QueueClientProperties {
@@ -79,6 +97,7 @@ public class QueueProperties {
         private int visibilityTimeoutSeconds = 30;
         private int waitTimeSeconds = 20; // Long polling
         private RetryPolicy retryPolicy = new RetryPolicy();
+        private PollerSettings poller = new PollerSettings();
     }
 
     @Getter
@@ -97,6 +116,7 @@ public class QueueProperties {
         private String keyDeserializer = "org.apache.kafka.common.serialization.StringDeserializer";
         private String valueDeserializer = "org.apache.kafka.common.serialization.JsonDeserializer";
         private RetryPolicy retryPolicy = new RetryPolicy();
+        private PollerSettings poller = new PollerSettings();
         private Map<String, Object> consumerProperties = new HashMap<>();
         private Map<String, Object> producerProperties = new HashMap<>();
     }
@@ -113,4 +133,16 @@ public class QueueProperties {
         private List<Class<? extends Exception>> retryableExceptions = new ArrayList<>();
         private List<Class<? extends Exception>> nonRetryableExceptions = new ArrayList<>();
     }
+
+    @Getter
+    @Setter
+    public static class PollerSettings {
+        // Shared worker threads used to consume all destinations
+        private int workerThreads = 1;
+        // Relative share of polls for destinations without an explicit weight
+        private int defaultWeight = 1;
+        private Map<String, Integer> weights = new HashMap<>();
+        // Upper bound for skipping a destination after it returned no message
+        private Duration maxIdleBackoff = Duration.ofSeconds(5);
+    }
 }
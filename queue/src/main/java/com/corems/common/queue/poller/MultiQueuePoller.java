@@ -0,0 +1,246 @@
+package com.corems.common.queue.poller;
+
+import com.corems.common.queue.QueueClient;
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.queue.config.QueueClientProperties;
+import com.corems.common.queue.config.QueueProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Consumes several destinations from one shared worker pool.
+ * <p>
+ * Destinations are picked with smooth weighted round-robin, so a destination with weight 3
+ * receives three polls for every poll of a destination with weight 1. A destination that
+ * returns no message is skipped for an exponentially growing idle period (capped by
+ * {@code maxIdleBackoff}), which keeps empty queues from consuming worker time.
+ */
+@Slf4j
+public class MultiQueuePoller implements AutoCloseable {
+
+    private static final long MIN_IDLE_BACKOFF_MS = 50L;
+
+    private final QueueClient queueClient;
+    private final QueueMessageDispatcher dispatcher;
+    private final List<Lane> lanes;
+    private final int workerThreads;
+    private final long maxIdleBackoffMs;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService workerPool;
+
+    public MultiQueuePoller(QueueClient queueClient, Map<String, MessageHandler> handlers) {
+        this(queueClient, handlers, resolveWeights(queueClient.getProperties()), workerThreads(queueClient.getProperties()), true);
+    }
+
+    public MultiQueuePoller(QueueClient queueClient, Map<String, MessageHandler> handlers,
+                            Map<String, Integer> destinationWeights, int workerThreads, boolean autoStart) {
+        if (destinationWeights.isEmpty()) {
+            throw new IllegalArgumentException("At least one destination is required");
+        }
+        if (workerThreads < 1) {
+            throw new IllegalArgumentException("workerThreads must be positive");
+        }
+
+        this.queueClient = queueClient;
+        this.dispatcher = new QueueMessageDispatcher(queueClient, handlers);
+        this.workerThreads = workerThreads;
+        this.maxIdleBackoffMs = maxIdleBackoff(queueClient.getProperties()).toMillis();
+        this.lanes = new ArrayList<>(destinationWeights.size());
+        destinationWeights.forEach((destination, weight) -> {
+            if (weight == null || weight < 1) {
+                throw new IllegalArgumentException("Weight for destination " + destination + " must be positive");
+            }
+            lanes.add(new Lane(destination, weight));
+        });
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread t = new Thread(r, "multi-queue-poller-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        if (autoStart) start();
+    }
+
+    /**
+     * Builds destination weights from the provider properties: the default queue and all
+     * required queues, weighted by {@code poller.weights} or {@code poller.defaultWeight}.
+     */
+    static Map<String, Integer> resolveWeights(QueueClientProperties properties) {
+        QueueProperties.PollerSettings poller = properties.getPoller() != null
+                ? properties.getPoller()
+                : new QueueProperties.PollerSettings();
+
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        String defaultQueue = properties.getDefaultQueue();
+        if (defaultQueue != null && !defaultQueue.isBlank()) {
+            weights.put(defaultQueue, poller.getWeights().getOrDefault(defaultQueue, poller.getDefaultWeight()));
+        }
+        if (properties.getRequiredQueues() != null) {
+            for (String queue : properties.getRequiredQueues()) {
+                if (queue != null && !queue.isBlank()) {
+                    weights.putIfAbsent(queue, poller.getWeights().getOrDefault(queue, poller.getDefaultWeight()));
+                }
+            }
+        }
+        return weights;
+    }
+
+    private static int workerThreads(QueueClientProperties properties) {
+        return properties.getPoller() != null ? properties.getPoller().getWorkerThreads() : 1;
+    }
+
+    private static Duration maxIdleBackoff(QueueClientProperties properties) {
+        Duration backoff = properties.getPoller() != null ? properties.getPoller().getMaxIdleBackoff() : null;
+        return backoff != null ? backoff : new QueueProperties.PollerSettings().getMaxIdleBackoff();
+    }
+
+    public void start() {
+        if (running.compareAndSet(false, true)) {
+            for (int i = 0; i < workerThreads; i++) {
+                workerPool.submit(this::runLoop);
+            }
+            log.info("MultiQueuePoller started with {} worker(s) for destinations={}", workerThreads,
+                    lanes.stream().map(lane -> lane.destination + "x" + lane.weight).toList());
+        }
+    }
+
+    private void runLoop() {
+        while (running.get() && !Thread.currentThread().isInterrupted()) {
+            try {
+                if (!pollOnce()) {
+                    TimeUnit.MILLISECONDS.sleep(Math.max(1L, millisUntilNextReadyLane()));
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception ex) {
+                log.error("Unexpected error in MultiQueuePoller loop", ex);
+                try {
+                    TimeUnit.SECONDS.sleep(1);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        log.info("MultiQueuePoller worker exiting");
+    }
+
+    public void stop() {
+        if (running.compareAndSet(true, false)) {
+            try {
+                workerPool.shutdownNow();
+                if (!workerPool.awaitTermination(5, TimeUnit.SECONDS)) {
+                    log.warn("MultiQueuePoller executor did not terminate in time");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            dispatcher.close();
+            log.info("MultiQueuePoller stopped");
+        }
+    }
+
+    @Override
+    public void close() {
+        stop();
+        dispatcher.close();
+    }
+
+    /**
+     * Polls the next scheduled destination once.
+     *
+     * @return {@code false} when every destination is idle and nothing was polled
+     */
+    public boolean pollOnce() {
+        Lane lane = nextLane(System.currentTimeMillis());
+        if (lane == null) {
+            return false;
+        }
+
+        try {
+            Optional<QueueMessage> maybe = queueClient.poll(lane.destination);
+            if (maybe.isEmpty()) {
+                lane.markIdle(System.currentTimeMillis(), maxIdleBackoffMs);
+                return true;
+            }
+            lane.markActive();
+
+            QueueMessage qm = maybe.get();
+            if (qm.isExpired()) {
+                log.warn("Discarding expired message id={} from destination={}", qm.getId(), lane.destination);
+                return true;
+            }
+
+            dispatcher.dispatch(qm, lane.destination);
+        } catch (Exception e) {
+            log.error("Unexpected error while polling destination={}", lane.destination, e);
+        }
+        return true;
+    }
+
+    private synchronized Lane nextLane(long now) {
+        Lane selected = null;
+        int totalWeight = 0;
+        for (Lane lane : lanes) {
+            if (lane.idleUntil > now) {
+                continue;
+            }
+            lane.currentWeight += lane.weight;
+            totalWeight += lane.weight;
+            if (selected == null || lane.currentWeight > selected.currentWeight) {
+                selected = lane;
+            }
+        }
+        if (selected != null) {
+            selected.currentWeight -= totalWeight;
+        }
+        return selected;
+    }
+
+    private long millisUntilNextReadyLane() {
+        long now = System.currentTimeMillis();
+        long earliest = Long.MAX_VALUE;
+        for (Lane lane : lanes) {
+            earliest = Math.min(earliest, lane.idleUntil);
+        }
+        return Math.min(earliest - now, maxIdleBackoffMs);
+    }
+
+    private static final class Lane {
+        private final String destination;
+        private final int weight;
+        private int currentWeight;
+        private volatile long idleUntil;
+        private volatile long idleBackoffMs;
+
+        private Lane(String destination, int weight) {
+            this.destination = destination;
+            this.weight = weight;
+        }
+
+        private void markIdle(long now, long maxBackoffMs) {
+            long next = idleBackoffMs == 0 ? MIN_IDLE_BACKOFF_MS : idleBackoffMs * 2;
+            idleBackoffMs = Math.min(next, Math.max(MIN_IDLE_BACKOFF_MS, maxBackoffMs));
+            idleUntil = now + idleBackoffMs;
+        }
+
+        private void markActive() {
+            idleBackoffMs = 0;
+            idleUntil = 0;
+        }
+    }
+}
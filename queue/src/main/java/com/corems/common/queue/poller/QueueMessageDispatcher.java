@@ -0,0 +1,186 @@
+package com.corems.common.queue.poller;
+
+import com.corems.common.queue.QueueClient;
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.queue.config.QueueProperties;
+import com.corems.common.queue.util.QueueMDCUtil;
+import com.corems.common.queue.util.QueueSecurityContextUtil;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handler dispatch, retry and dead-letter logic shared by the pollers.
+ * Retries are re-enqueued to the destination the message was received from. The backoff runs on
+ * a scheduler thread, so a failing message does not hold a poller worker; retries still pending
+ * on {@link #close()} are re-enqueued immediately.
+ */
+@Slf4j
+public class QueueMessageDispatcher implements AutoCloseable {
+
+    public static final String HEADER_FAILURE_REASON = "failure-reason";
+    public static final String HEADER_FAILED_AT = "failed-at";
+    public static final String HEADER_ORIGINAL_DESTINATION = "original-destination";
+
+    private final QueueClient queueClient;
+    private final Map<String, MessageHandler> handlers;
+    @Getter
+    private final QueueProperties.RetryPolicy retryPolicy;
+    private final ScheduledExecutorService retryScheduler;
+
+    public QueueMessageDispatcher(QueueClient queueClient, Map<String, MessageHandler> handlers) {
+        this.queueClient = queueClient;
+        this.handlers = handlers;
+        this.retryPolicy = resolveRetryPolicy(queueClient);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "queue-retry-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static QueueProperties.RetryPolicy resolveRetryPolicy(QueueClient queueClient) {
+        if (queueClient.getProperties() instanceof QueueProperties.RabbitMqProperties rabbitProps) {
+            return rabbitProps.getRetryPolicy();
+        }
+        // Default retry policy
+        QueueProperties.RetryPolicy defaultPolicy = new QueueProperties.RetryPolicy();
+        defaultPolicy.setMaxAttempts(queueClient.getProperties().getRetryCount());
+        return defaultPolicy;
+    }
+
+    public void dispatch(QueueMessage qm, String destination) {
+        QueueMDCUtil.setupConsumerMDC(qm);
+
+        try {
+            QueueSecurityContextUtil.setSecurityContextFromQueueUser(qm.getUser());
+
+            MessageHandler handler = handlers.get(qm.getType());
+            if (handler == null) {
+                log.error("No handler registered for message type={}", qm.getType());
+                return;
+            }
+
+            qm.incrementAttempts();
+            handler.handle(qm);
+
+        } catch (Exception ex) {
+            log.error("Failed handling message id={}: {}", qm.getId(), ex.getMessage());
+
+            if (shouldRetry(qm, ex)) {
+                scheduleRetry(qm, destination);
+            } else {
+                handleFailedMessage(qm, ex, destination);
+            }
+        } finally {
+            QueueSecurityContextUtil.clearSecurityContext();
+            QueueMDCUtil.cleanupConsumerMDC();
+        }
+    }
+
+    private boolean shouldRetry(QueueMessage qm, Exception ex) {
+        if (qm.getAttempts() >= retryPolicy.getMaxAttempts()) {
+            return false;
+        }
+
+        // Check if exception is non-retryable
+        if (!retryPolicy.getNonRetryableExceptions().isEmpty()) {
+            return retryPolicy.getNonRetryableExceptions().stream()
+                    .noneMatch(exClass -> exClass.isInstance(ex));
+        }
+
+        // Check if exception is explicitly retryable
+        if (!retryPolicy.getRetryableExceptions().isEmpty()) {
+            return retryPolicy.getRetryableExceptions().stream()
+                    .anyMatch(exClass -> exClass.isInstance(ex));
+        }
+
+        return true; // Default to retryable
+    }
+
+    private void scheduleRetry(QueueMessage qm, String destination) {
+        long backoffMs = calculateBackoff(qm.getAttempts());
+        if (backoffMs <= 0 || retryScheduler.isShutdown()) {
+            reEnqueue(qm, destination);
+            return;
+        }
+        try {
+            retryScheduler.schedule(() -> reEnqueue(qm, destination), backoffMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException _) {
+            reEnqueue(qm, destination);
+        }
+    }
+
+    private void reEnqueue(QueueMessage qm, String destination) {
+        try {
+            queueClient.send(destination, qm);
+            log.info("Re-enqueued message id={} for retry attempt {} (destination={})",
+                    qm.getId(), qm.getAttempts(), destination);
+        } catch (Exception e) {
+            log.error("Failed to re-enqueue message id={}", qm.getId(), e);
+            handleFailedMessage(qm, e, destination);
+        }
+    }
+
+    private long calculateBackoff(int attempt) {
+        Duration initialBackoff = retryPolicy.getInitialBackoff();
+        double multiplier = retryPolicy.getBackoffMultiplier();
+        Duration maxBackoff = retryPolicy.getMaxBackoff();
+
+        long backoffMs = (long) (initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1));
+        return Math.min(backoffMs, maxBackoff.toMillis());
+    }
+
+    private void handleFailedMessage(QueueMessage qm, Exception ex, String destination) {
+        log.warn("Message id={} exhausted {} attempts, handling final failure", qm.getId(), qm.getAttempts());
+
+        // Send to dead letter queue if configured
+        if (retryPolicy.getDeadLetterQueue() != null && !retryPolicy.getDeadLetterQueue().isBlank()) {
+            try {
+                qm.withHeader(HEADER_FAILURE_REASON, ex.getMessage())
+                  .withHeader(HEADER_FAILED_AT, Instant.now().toString())
+                  .withHeader(HEADER_ORIGINAL_DESTINATION, destination);
+                queueClient.send(retryPolicy.getDeadLetterQueue(), qm);
+                log.info("Sent failed message id={} to dead letter queue: {}", qm.getId(), retryPolicy.getDeadLetterQueue());
+            } catch (Exception dlqEx) {
+                log.error("Failed to send message id={} to dead letter queue", qm.getId(), dlqEx);
+            }
+        }
+
+        // Final handler call for cleanup
+        try {
+            MessageHandler handler = handlers.get(qm.getType());
+            if (handler != null) {
+                handler.handle(qm);
+            }
+        } catch (Exception finalEx) {
+            log.info("Handler processed final failure for message id={}", qm.getId());
+        }
+    }
+
+    /**
+     * Stops the retry scheduler and re-enqueues retries that are still waiting for their backoff,
+     * so they are not lost with the scheduler.
+     */
+    @Override
+    public void close() {
+        if (retryScheduler.isShutdown()) {
+            return;
+        }
+        List<Runnable> pending = retryScheduler.shutdownNow();
+        for (Runnable retry : pending) {
+            retry.run();
+        }
+        if (!pending.isEmpty()) {
+            log.info("Re-enqueued {} pending retry(ies) without backoff on shutdown", pending.size());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.corems.common.queue.replay;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.exception.handler.DefaultExceptionReasonCodes;
+import com.corems.common.queue.QueueClient;
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.queue.config.QueueProperties;
+import com.corems.common.queue.poller.QueueMessageDispatcher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains a dead-letter queue in batches and republishes matching messages to the destination
+ * recorded in the {@code original-destination} header, paced to a fixed rate.
+ * <p>
+ * Messages that do not match the request are sent back to the dead-letter queue. The run stops when
+ * the queue is empty, {@code maxMessages} is reached, or a message returned by this run comes around
+ * again, so a queue holding only non-matching messages is scanned once.
+ * <p>
+ * The replayed message is a copy; the dead-lettered original, with its failure headers, is what
+ * goes back to the dead-letter queue when a republish fails.
+ * <p>
+ * Polling auto-acknowledges, so the broker no longer holds a batch once it is polled. If the
+ * process crashes mid-batch, the polled messages that were not yet republished or returned to the
+ * dead-letter queue are lost, up to {@code batchSize} of them. Keep {@code batchSize} close to
+ * {@code messagesPerSecond} when that matters.
+ * <p>
+ * Registered as a bean when {@code queue.enabled=true}, bound to the default queue client.
+ */
+@Slf4j
+public class DeadLetterReplayer {
+
+    public static final String HEADER_REPLAYED_AT = "replayed-at";
+
+    private final QueueClient queueClient;
+
+    public DeadLetterReplayer(QueueClient queueClient) {
+        this.queueClient = queueClient;
+    }
+
+    public ReplayResult replay(ReplayRequest request) {
+        String dlq = resolveDeadLetterQueue(request);
+        if (request.getBatchSize() < 1 || request.getMessagesPerSecond() <= 0) {
+            throw ServiceException.of(DefaultExceptionReasonCodes.INVALID_REQUEST,
+                    "batchSize and messagesPerSecond must be positive");
+        }
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / request.getMessagesPerSecond());
+        long nextSlot = System.nanoTime();
+        Set<String> returnedIds = new HashSet<>();
+        long scanned = 0, replayed = 0, skipped = 0, failed = 0;
+
+        log.info("Starting replay from dead letter queue={}", dlq);
+        outer:
+        while (scanned < request.getMaxMessages()) {
+            int batchSize = (int) Math.min(request.getBatchSize(), request.getMaxMessages() - scanned);
+            List<QueueMessage> batch = queueClient.pollBatch(dlq, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                QueueMessage qm = batch.get(i);
+                if (returnedIds.contains(qm.getId())) {
+                    // Wrapped around to messages this run already returned; put the rest back and stop
+                    for (QueueMessage rest : batch.subList(i, batch.size())) {
+                        queueClient.send(dlq, rest);
+                    }
+                    break outer;
+                }
+                scanned++;
+
+                String destination = request.getTargetDestination() != null
+                        ? request.getTargetDestination()
+                        : qm.getHeaders().get(QueueMessageDispatcher.HEADER_ORIGINAL_DESTINATION);
+                if (!matches(qm, request) || destination == null || destination.isBlank()) {
+                    queueClient.send(dlq, qm);
+                    returnedIds.add(qm.getId());
+                    skipped++;
+                    continue;
+                }
+
+                if (!awaitSlot(nextSlot)) {
+                    // Interrupted: put this and the not yet handled messages back
+                    for (QueueMessage rest : batch.subList(i, batch.size())) {
+                        queueClient.send(dlq, rest);
+                    }
+                    break outer;
+                }
+                // Do not bank unused slots after an idle period, that would allow a burst
+                nextSlot = Math.max(nextSlot, System.nanoTime()) + intervalNanos;
+
+                try {
+                    queueClient.send(destination, prepareForReplay(qm, request));
+                    replayed++;
+                } catch (Exception ex) {
+                    log.warn("Failed to replay message id={} to destination={}: {}", qm.getId(), destination, ex.getMessage());
+                    queueClient.send(dlq, qm);
+                    returnedIds.add(qm.getId());
+                    failed++;
+                }
+            }
+        }
+
+        ReplayResult result = new ReplayResult(scanned, replayed, skipped, failed);
+        log.info("Finished replay from dead letter queue={}: {}", dlq, result);
+        return result;
+    }
+
+    private String resolveDeadLetterQueue(ReplayRequest request) {
+        String dlq = request.getDeadLetterQueue();
+        if ((dlq == null || dlq.isBlank())
+                && queueClient.getProperties() instanceof QueueProperties.RabbitMqProperties rabbitProps) {
+            dlq = rabbitProps.getRetryPolicy().getDeadLetterQueue();
+        }
+        if (dlq == null || dlq.isBlank()) {
+            throw ServiceException.of(DefaultExceptionReasonCodes.REQUEST_PARAMETER_MISSING,
+                    "Dead letter queue is not configured");
+        }
+        return dlq;
+    }
+
+    static boolean matches(QueueMessage qm, ReplayRequest request) {
+        if (!request.getTypes().isEmpty() && !request.getTypes().contains(qm.getType())) {
+            return false;
+        }
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            if (!header.getValue().equals(qm.getHeaders().get(header.getKey()))) {
+                return false;
+            }
+        }
+        if (request.getFailedFrom() != null || request.getFailedTo() != null) {
+            Instant failedAt = failedAt(qm);
+            if (failedAt == null) {
+                return false;
+            }
+            if (request.getFailedFrom() != null && failedAt.isBefore(request.getFailedFrom())) {
+                return false;
+            }
+            if (request.getFailedTo() != null && !failedAt.isBefore(request.getFailedTo())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Instant failedAt(QueueMessage qm) {
+        String value = qm.getHeaders().get(QueueMessageDispatcher.HEADER_FAILED_AT);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // Works on a copy so a failed send can return the original, failure headers intact
+    private static QueueMessage prepareForReplay(QueueMessage qm, ReplayRequest request) {
+        QueueMessage replay = new QueueMessage();
+        replay.setId(qm.getId());
+        replay.setType(qm.getType());
+        replay.setPayload(qm.getPayload());
+        replay.setAttempts(request.isResetAttempts() ? 0 : qm.getAttempts());
+        replay.setLastAttemptAt(request.isResetAttempts() ? null : qm.getLastAttemptAt());
+        replay.setCreatedAt(qm.getCreatedAt());
+        replay.setSourceService(qm.getSourceService());
+        replay.setCorrelationId(qm.getCorrelationId());
+        replay.setPriority(qm.getPriority());
+        replay.setExpiresAt(qm.getExpiresAt());
+        replay.setUser(qm.getUser());
+
+        Map<String, String> headers = new HashMap<>(qm.getHeaders());
+        headers.remove(QueueMessageDispatcher.HEADER_FAILURE_REASON);
+        headers.remove(QueueMessageDispatcher.HEADER_FAILED_AT);
+        headers.remove(QueueMessageDispatcher.HEADER_ORIGINAL_DESTINATION);
+        headers.put(HEADER_REPLAYED_AT, Instant.now().toString());
+        replay.setHeaders(headers);
+        return replay;
+    }
+
+    /**
+     * Sleep until the given send slot.
+     *
+     * @return {@code false} when interrupted
+     */
+    private static boolean awaitSlot(long slot) {
+        long wait = slot - System.nanoTime();
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package com.corems.common.queue.replay;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selection and pacing options for a dead-letter replay. Unset filters match every message.
+ */
+@Getter
+@Setter
+public class ReplayRequest {
+    // Dead-letter queue to drain; defaults to the client's retry policy DLQ
+    private String deadLetterQueue;
+    // Overrides the original-destination header when set
+    private String targetDestination;
+    private Set<String> types = new HashSet<>();
+    private Map<String, String> headers = new HashMap<>();
+    // Window on the failed-at header, inclusive start and exclusive end
+    private Instant failedFrom;
+    private Instant failedTo;
+    private int batchSize = 100;
+    private double messagesPerSecond = 50.0;
+    // Upper bound on messages taken from the DLQ in one run
+    private long maxMessages = Long.MAX_VALUE;
+    private boolean resetAttempts = true;
+
+    public ReplayRequest withType(String type) {
+        this.types.add(type);
+        return this;
+    }
+
+    public ReplayRequest withHeader(String key, String value) {
+        this.headers.put(key, value);
+        return this;
+    }
+
+    public ReplayRequest withFailedBetween(Instant from, Instant to) {
+        this.failedFrom = from;
+        this.failedTo = to;
+        return this;
+    }
+}
@@ -0,0 +1,11 @@
+package com.corems.common.queue.replay;
+
+/**
+ * Outcome of a dead-letter replay run.
+ *
+ * @param scanned  messages taken from the dead-letter queue
+ * @param replayed messages republished to their destination
+ * @param skipped  messages that did not match the filters and were returned to the dead-letter queue
+ * @param failed   messages that could not be republished and were returned to the dead-letter queue
+ */
+public record ReplayResult(long scanned, long replayed, long skipped, long failed) {}
@@ -0,0 +1,79 @@
+package com.corems.common.queue.revocation;
+
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.queue.poller.MessageHandler;
+import com.corems.common.security.service.RevokedToken;
+import com.corems.common.security.service.TokenRevocationFeed;
+import com.corems.common.security.service.TokenRevocationList;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Feeds {@link TokenRevocationList} from queue messages of type {@link #MESSAGE_TYPE}.
+ * <p>
+ * Register it as a {@link TokenRevocationFeed} bean and add it to the poller handlers under
+ * {@link #MESSAGE_TYPE}. Every service instance keeps its own list, so each instance must
+ * consume its own destination (e.g. a per-instance queue bound to a fanout exchange) rather
+ * than compete on a shared one.
+ */
+@Slf4j
+public class TokenRevocationMessageHandler implements MessageHandler, TokenRevocationFeed {
+
+    public static final String MESSAGE_TYPE = "TOKEN_REVOKED";
+    private static final String TOKEN_ID = "tokenId";
+    private static final String EXPIRES_AT = "expiresAt";
+
+    private volatile TokenRevocationList revocationList;
+
+    @Override
+    public void subscribe(TokenRevocationList revocationList) {
+        this.revocationList = revocationList;
+    }
+
+    @Override
+    public void handle(QueueMessage message) {
+        TokenRevocationList target = revocationList;
+        if (target == null) {
+            log.warn("Dropping token revocation message id={}: no revocation list subscribed", message.getId());
+            return;
+        }
+        RevokedToken revoked = toRevokedToken(message.getPayload());
+        if (revoked == null) {
+            log.warn("Ignoring malformed token revocation message id={}", message.getId());
+            return;
+        }
+        target.revoke(revoked);
+    }
+
+    /**
+     * Builds the message an issuer publishes when it revokes a token. The message expires with
+     * the token, so late deliveries are discarded by the poller.
+     */
+    public static QueueMessage message(UUID tokenId, Instant expiresAt) {
+        QueueMessage message = new QueueMessage();
+        message.setType(MESSAGE_TYPE);
+        message.setPayload(Map.of(TOKEN_ID, tokenId.toString(), EXPIRES_AT, expiresAt.toString()));
+        message.setExpiresAt(expiresAt);
+        return message;
+    }
+
+    private static RevokedToken toRevokedToken(Object payload) {
+        if (payload instanceof RevokedToken revoked) {
+            return revoked;
+        }
+        if (!(payload instanceof Map<?, ?> map) || map.get(TOKEN_ID) == null || map.get(EXPIRES_AT) == null) {
+            return null;
+        }
+        try {
+            return new RevokedToken(
+                    UUID.fromString(map.get(TOKEN_ID).toString()),
+                    Instant.parse(map.get(EXPIRES_AT).toString()));
+        } catch (IllegalArgumentException | DateTimeException _) {
+            return null;
+        }
+    }
+}
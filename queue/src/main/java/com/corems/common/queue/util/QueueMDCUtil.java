@@ -3,8 +3,6 @@ package com.corems.common.queue.util;
 import com.corems.common.queue.QueueMessage;
 import org.slf4j.MDC;
 
-import java.util.UUID;
-
 /**
  * Utility class for managing MDC (Mapped Diagnostic Context) in queue operations.
  * Provides consistent correlation ID and tracing context management across producers and consumers.
@@ -26,7 +24,7 @@ public final class QueueMDCUtil {
     public static String ensureCorrelationId() {
         String correlationId = MDC.get(CORRELATION_ID_KEY);
         if (correlationId == null) {
-            correlationId = UUID.randomUUID().toString();
+            correlationId = QueueMessageIds.next();
             MDC.put(CORRELATION_ID_KEY, correlationId);
         }
         return correlationId;
@@ -44,23 +42,19 @@ public final class QueueMDCUtil {
     public static QueueMessage prepareMessageForSending(QueueMessage message) {
         // Set correlation ID if not already set by user
         if (message.getCorrelationId() == null) {
-            String correlationId = MDC.get(CORRELATION_ID_KEY);
-            if (correlationId == null) {
-                correlationId = UUID.randomUUID().toString();
-                MDC.put(CORRELATION_ID_KEY, correlationId);
-            }
-            message.setCorrelationId(correlationId);
+            message.setCorrelationId(ensureCorrelationId());
         }
         
-        // Capture tracing context from MDC into message headers (only if not already set)
+        // Capture tracing context from MDC into message headers (only if not already set).
+        // getHeader avoids allocating the header map when there is nothing to copy.
         String traceId = MDC.get(TRACE_ID_KEY);
-        if (traceId != null && !message.getHeaders().containsKey(TRACE_ID_KEY)) {
-            message.getHeaders().put(TRACE_ID_KEY, traceId);
+        if (traceId != null && message.getHeader(TRACE_ID_KEY) == null) {
+            message.withHeader(TRACE_ID_KEY, traceId);
         }
         
         String spanId = MDC.get(SPAN_ID_KEY);
-        if (spanId != null && !message.getHeaders().containsKey(SPAN_ID_KEY)) {
-            message.getHeaders().put(SPAN_ID_KEY, spanId);
+        if (spanId != null && message.getHeader(SPAN_ID_KEY) == null) {
+            message.withHeader(SPAN_ID_KEY, spanId);
         }
         
         return message;
@@ -78,12 +72,12 @@ public final class QueueMDCUtil {
         }
         
         // Restore tracing context from headers
-        String traceId = message.getHeaders().get(TRACE_ID_KEY);
+        String traceId = message.getHeader(TRACE_ID_KEY);
         if (traceId != null) {
             MDC.put(TRACE_ID_KEY, traceId);
         }
         
-        String spanId = message.getHeaders().get(SPAN_ID_KEY);
+        String spanId = message.getHeader(SPAN_ID_KEY);
         if (spanId != null) {
             MDC.put(SPAN_ID_KEY, spanId);
         }
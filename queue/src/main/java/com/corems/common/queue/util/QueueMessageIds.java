@@ -0,0 +1,31 @@
+package com.corems.common.queue.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates time-ordered message ids in UUID version 7 layout.
+ * <p>
+ * Uses {@link ThreadLocalRandom} instead of the shared {@code SecureRandom} behind
+ * {@link UUID#randomUUID()}. Ids are unique and sortable by creation millisecond, but not
+ * unpredictable, so they must not be used as secrets.
+ */
+public final class QueueMessageIds {
+
+    private QueueMessageIds() {
+        // Utility class
+    }
+
+    public static String next() {
+        return next(System.currentTimeMillis());
+    }
+
+    public static String next(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // 48 bits timestamp, 4 bits version, 12 bits random
+        long msb = (epochMillis << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        // 2 bits IETF variant, 62 bits random
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+}
@@ -3,18 +3,60 @@ package com.corems.common.queue.util;
 import com.corems.common.queue.QueueUser;
 import com.corems.common.security.UserPrincipal;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public final class QueueSecurityContextUtil {
 
+    // Last snapshot per thread, reused while the same Authentication is current. The Authentication
+    // is only weakly referenced, so a pooled thread does not keep the last principal alive.
+    private static final ThreadLocal<CachedQueueUser> CACHED_USER = new ThreadLocal<>();
+
     private QueueSecurityContextUtil() { }
 
+    /**
+     * Snapshot of the authenticated {@link UserPrincipal} as a {@link QueueUser}, or {@code null}
+     * when there is none. Each call returns a new instance; within one security context the roles
+     * are collected once and the immutable roles list is shared.
+     */
+    public static QueueUser currentQueueUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !(authentication.getPrincipal() instanceof UserPrincipal principal)
+                || principal.getUserId() == null) {
+            return null;
+        }
+
+        CachedQueueUser cached = CACHED_USER.get();
+        if (cached == null || cached.authentication().get() != authentication) {
+            Collection<? extends GrantedAuthority> authorities = principal.getAuthorities();
+            List<String> roles = new ArrayList<>(authorities.size());
+            for (GrantedAuthority authority : authorities) {
+                roles.add(authority.getAuthority());
+            }
+            cached = new CachedQueueUser(new WeakReference<>(authentication), Collections.unmodifiableList(roles));
+            CACHED_USER.set(cached);
+        }
+
+        // Defensive copy: QueueUser is mutable and each message owns its user
+        return new QueueUser(
+            principal.getUserId(),
+            principal.getEmail(),
+            principal.getFirstName(),
+            principal.getLastName(),
+            cached.roles()
+        );
+    }
+
     public static void setSecurityContextFromQueueUser(QueueUser queueUser) {
         if (queueUser == null || queueUser.getUserId() == null) {
             clearSecurityContext();
@@ -44,5 +86,8 @@ public final class QueueSecurityContextUtil {
 
     public static void clearSecurityContext() {
         SecurityContextHolder.clearContext();
+        CACHED_USER.remove();
     }
+
+    private record CachedQueueUser(WeakReference<Authentication> authentication, List<String> roles) {}
 }
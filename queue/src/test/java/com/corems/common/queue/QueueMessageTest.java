@@ -2,12 +2,24 @@ package com.corems.common.queue;
 
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
 
 import com.corems.common.queue.util.QueueMDCUtil;
+import com.corems.common.queue.util.QueueSecurityContextUtil;
+import com.corems.common.security.UserPrincipal;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -241,4 +253,82 @@ class QueueMessageTest {
         
         MDC.clear();
     }
-}
\ No newline at end of file
+
+    @Test
+    void constructor_GeneratesTimeOrderedVersion7Ids() {
+        QueueMessage first = new QueueMessage();
+        QueueMessage second = new QueueMessage();
+
+        UUID id = UUID.fromString(first.getId());
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(first.getCreatedAt().toEpochMilli(), id.getMostSignificantBits() >>> 16);
+        assertNotEquals(first.getId(), second.getId());
+        assertTrue(first.getCreatedAt().toEpochMilli() <= UUID.fromString(second.getId()).getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void getHeader_WithoutHeaders_ReturnsNull() {
+        QueueMessage message = new QueueMessage();
+
+        assertNull(message.getHeader("missing"));
+        message.withHeader("source", "test-service");
+        assertEquals("test-service", message.getHeader("source"));
+    }
+
+    @Test
+    void withUserFromSecurityContext_SameAuthentication_ReturnsIndependentCopies() {
+        UUID userId = UUID.randomUUID();
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("USER_MS_USER"));
+        UserPrincipal principal = new UserPrincipal(userId, "john@example.com", "John", "Doe", (UUID) null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, authorities));
+        try {
+            QueueMessage first = new QueueMessage().withUserFromSecurityContext();
+            QueueMessage second = new QueueMessage().withUserFromSecurityContext();
+
+            assertEquals(userId, first.getUser().getUserId());
+            assertEquals(List.of("USER_MS_USER"), List.copyOf(first.getUser().getRoles()));
+            assertNotSame(first.getUser(), second.getUser());
+            assertEquals(first.getUser(), second.getUser());
+
+            first.getUser().setEmail("changed@example.com");
+            assertEquals("john@example.com", second.getUser().getEmail());
+            assertEquals("john@example.com", new QueueMessage().withUserFromSecurityContext().getUser().getEmail());
+        } finally {
+            QueueSecurityContextUtil.clearSecurityContext();
+        }
+    }
+
+    @Test
+    void withUserFromSecurityContext_NoAuthentication_LeavesUserUnset() {
+        QueueSecurityContextUtil.clearSecurityContext();
+
+        assertNull(new QueueMessage().withUserFromSecurityContext().getUser());
+    }
+
+    @Test
+    void serialize_WithoutHeaders_OmitsHeadersAndKeepsMapUnallocated() throws Exception {
+        QueueMessage message = new QueueMessage();
+        message.setType("TEST");
+
+        String json = new String(new JacksonJsonMessageConverter().toMessage(message, new MessageProperties()).getBody(), StandardCharsets.UTF_8);
+
+        assertFalse(json.contains("\"headers\""));
+        Field headers = QueueMessage.class.getDeclaredField("headers");
+        headers.setAccessible(true);
+        assertNull(headers.get(message));
+    }
+
+    @Test
+    void serialize_WithHeaders_RoundTripsHeaders() {
+        JacksonJsonMessageConverter converter = new JacksonJsonMessageConverter();
+        QueueMessage message = new QueueMessage().withHeader("traceId", "t-1");
+
+        Message encoded = converter.toMessage(message, new MessageProperties());
+        encoded.getMessageProperties().setInferredArgumentType(QueueMessage.class);
+        QueueMessage read = (QueueMessage) converter.fromMessage(encoded);
+
+        assertEquals("t-1", read.getHeader("traceId"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.corems.common.queue.benchmark;
+
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.queue.QueueUser;
+import com.corems.common.queue.util.QueueMDCUtil;
+import com.corems.common.queue.util.QueueSecurityContextUtil;
+import com.corems.common.security.UserPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Send-path cost of building a message with user and MDC context.
+ * <p>
+ * {@code legacySendPath} is a hand-written approximation of the previous eager construction
+ * (random UUID id, eager header map, roles collected per message), not the old code itself,
+ * which no longer exists in the tree. Treat the comparison as indicative; for an exact baseline
+ * run {@code leanSendPath} against a build of the earlier revision.
+ * <p>
+ * Run with {@code main}; the GC profiler reports {@code gc.alloc.rate.norm} (bytes per send).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueMessageSendPathBenchmark {
+
+    private UserPrincipal principal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<SimpleGrantedAuthority> authorities = List.of(
+                new SimpleGrantedAuthority("USER_MS_USER"), new SimpleGrantedAuthority("DOCUMENT_MS_USER"));
+        principal = new UserPrincipal(UUID.randomUUID(), "john@example.com", "John", "Doe", (UUID) null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, authorities));
+        MDC.put(QueueMDCUtil.CORRELATION_ID_KEY, "bench-correlation");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        QueueSecurityContextUtil.clearSecurityContext();
+        MDC.clear();
+    }
+
+    @Benchmark
+    public QueueMessage leanSendPath() {
+        QueueMessage message = new QueueMessage().withUserFromSecurityContext();
+        message.setType("BENCH");
+        return QueueMDCUtil.prepareMessageForSending(message);
+    }
+
+    @Benchmark
+    public Object[] legacySendPath() {
+        String id = UUID.randomUUID().toString();
+        Map<String, String> headers = new HashMap<>();
+        Instant createdAt = Instant.now();
+        QueueUser user = new QueueUser(
+                principal.getUserId(),
+                principal.getEmail(),
+                principal.getFirstName(),
+                principal.getLastName(),
+                principal.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.toList()));
+        String correlationId = MDC.get(QueueMDCUtil.CORRELATION_ID_KEY);
+        boolean hasTrace = headers.containsKey(QueueMDCUtil.TRACE_ID_KEY);
+        return new Object[] {id, headers, createdAt, user, correlationId, hasTrace};
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QueueMessageSendPathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,68 @@
+package com.corems.common.queue.clients;
+
+import com.corems.common.queue.config.QueueProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RabbitConnectionManagerTest {
+
+    private QueueProperties.RabbitMqProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QueueProperties.RabbitMqProperties();
+        properties.setHost("rabbit.local");
+        properties.setPort(5673);
+        properties.setDefaultQueue("test-queue");
+    }
+
+    @Test
+    void constructor_WithConnectionSettings_AppliesThemToFactories() {
+        QueueProperties.RabbitConnectionSettings settings = properties.getConnection();
+        settings.setConsumerChannelCacheSize(10);
+        settings.setPublisherChannelCacheSize(40);
+        settings.setRequestedHeartbeat(Duration.ofSeconds(15));
+        settings.setConnectionTimeout(Duration.ofSeconds(5));
+        settings.setVirtualHost("corems");
+
+        try (RabbitConnectionManager manager = new RabbitConnectionManager(properties)) {
+            CachingConnectionFactory factory = manager.getConnectionFactory();
+            CachingConnectionFactory publisherFactory = (CachingConnectionFactory) factory.getPublisherConnectionFactory();
+
+            assertEquals("rabbit.local", factory.getHost());
+            assertEquals(5673, factory.getPort());
+            assertEquals("corems", factory.getVirtualHost());
+            assertEquals(10, factory.getChannelCacheSize());
+            assertEquals(40, publisherFactory.getChannelCacheSize());
+            assertEquals(15, factory.getRabbitConnectionFactory().getRequestedHeartbeat());
+            assertEquals(5000, factory.getRabbitConnectionFactory().getConnectionTimeout());
+        }
+    }
+
+    @Test
+    void constructor_WithLegacyConnectionTimeout_UsesLegacyValue() {
+        properties.getConnectionProperties().put("connectionTimeout", 1234);
+
+        try (RabbitConnectionManager manager = new RabbitConnectionManager(properties)) {
+            assertEquals(1234, manager.getConnectionFactory().getRabbitConnectionFactory().getConnectionTimeout());
+        }
+    }
+
+    @Test
+    void createTemplate_CalledTwice_SharesConnectionFactory() {
+        try (RabbitConnectionManager manager = new RabbitConnectionManager(properties)) {
+            RabbitTemplate first = manager.createTemplate(new SimpleMessageConverter(), 1000L);
+            RabbitTemplate second = manager.createTemplate(new SimpleMessageConverter(), 500L);
+
+            assertSame(manager.getConnectionFactory(), first.getConnectionFactory());
+            assertSame(first.getConnectionFactory(), second.getConnectionFactory());
+        }
+    }
+}
@@ -159,9 +159,9 @@ class GenericQueuePollerTest {
         GenericQueuePoller poller = new GenericQueuePoller(mockQueueClient, handlers, Map.of(), false);
         poller.pollOnce();
         
-        // Should increment attempts and re-enqueue
+        // Should increment attempts and re-enqueue once the backoff elapses
         assertEquals(1, message.getAttempts());
-        verify(mockQueueClient).send("test-queue", message);
+        verify(mockQueueClient, timeout(5000)).send("test-queue", message);
         poller.close();
     }
 
@@ -0,0 +1,161 @@
+package com.corems.common.queue.poller;
+
+import com.corems.common.queue.QueueClient;
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.queue.config.QueueProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MultiQueuePollerTest {
+
+    private QueueClient mockQueueClient;
+    private QueueProperties.RabbitMqProperties properties;
+    private Map<String, MessageHandler> handlers;
+    private MessageHandler mockHandler;
+
+    @BeforeEach
+    void setUp() {
+        mockQueueClient = mock(QueueClient.class);
+        mockHandler = mock(MessageHandler.class);
+        properties = new QueueProperties.RabbitMqProperties();
+        properties.setDefaultQueue("default-queue");
+
+        when(mockQueueClient.getProperties()).thenReturn(properties);
+        when(mockQueueClient.poll(anyString())).thenAnswer(invocation -> Optional.of(testMessage()));
+
+        handlers = new HashMap<>();
+        handlers.put("TEST_MESSAGE", mockHandler);
+    }
+
+    @Test
+    void pollOnce_WithWeights_DistributesPollsProportionally() {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("orders", 3);
+        weights.put("emails", 1);
+
+        MultiQueuePoller poller = new MultiQueuePoller(mockQueueClient, handlers, weights, 1, false);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(poller.pollOnce());
+        }
+
+        verify(mockQueueClient, times(6)).poll("orders");
+        verify(mockQueueClient, times(2)).poll("emails");
+        verify(mockHandler, times(8)).handle(any(QueueMessage.class));
+        poller.close();
+    }
+
+    @Test
+    void pollOnce_WithEmptyDestination_SkipsItWhileIdle() {
+        when(mockQueueClient.poll("orders")).thenReturn(Optional.empty());
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("orders", 10);
+        weights.put("emails", 1);
+
+        MultiQueuePoller poller = new MultiQueuePoller(mockQueueClient, handlers, weights, 1, false);
+        for (int i = 0; i < 5; i++) {
+            poller.pollOnce();
+        }
+
+        verify(mockQueueClient, times(1)).poll("orders");
+        verify(mockQueueClient, times(4)).poll("emails");
+        poller.close();
+    }
+
+    @Test
+    void pollOnce_WhenAllDestinationsIdle_ReturnsFalse() {
+        when(mockQueueClient.poll(anyString())).thenReturn(Optional.empty());
+
+        MultiQueuePoller poller = new MultiQueuePoller(mockQueueClient, handlers, Map.of("orders", 1), 1, false);
+
+        assertTrue(poller.pollOnce());
+        assertFalse(poller.pollOnce());
+        verify(mockQueueClient, times(1)).poll("orders");
+        poller.close();
+    }
+
+    @Test
+    void pollOnce_WhenHandlerFails_RetriesToSourceDestination() {
+        doThrow(new RuntimeException("boom")).when(mockHandler).handle(any());
+        properties.getRetryPolicy().setInitialBackoff(java.time.Duration.ZERO);
+
+        MultiQueuePoller poller = new MultiQueuePoller(mockQueueClient, handlers, Map.of("emails", 1), 1, false);
+        poller.pollOnce();
+
+        verify(mockQueueClient).send(eq("emails"), any(QueueMessage.class));
+        verify(mockQueueClient, never()).send(eq("default-queue"), any(QueueMessage.class));
+        poller.close();
+    }
+
+    @Test
+    void pollOnce_WhenHandlerFails_DoesNotBlockWorkerDuringBackoff() {
+        doThrow(new RuntimeException("boom")).when(mockHandler).handle(any());
+        properties.getRetryPolicy().setInitialBackoff(java.time.Duration.ofMinutes(10));
+        properties.getRetryPolicy().setMaxBackoff(java.time.Duration.ofMinutes(10));
+
+        MultiQueuePoller poller = new MultiQueuePoller(mockQueueClient, handlers, Map.of("emails", 1), 1, false);
+        long started = System.nanoTime();
+        poller.pollOnce();
+
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started) < 5);
+        verify(mockQueueClient, never()).send(anyString(), any(QueueMessage.class));
+
+        // Pending retries are re-enqueued rather than dropped on shutdown
+        poller.close();
+        verify(mockQueueClient).send(eq("emails"), any(QueueMessage.class));
+    }
+
+    @Test
+    void pollOnce_WhenHandlerFails_ReEnqueuesAfterBackoff() {
+        doThrow(new RuntimeException("boom")).when(mockHandler).handle(any());
+        properties.getRetryPolicy().setInitialBackoff(java.time.Duration.ofMillis(50));
+
+        MultiQueuePoller poller = new MultiQueuePoller(mockQueueClient, handlers, Map.of("emails", 1), 1, false);
+        poller.pollOnce();
+
+        verify(mockQueueClient, timeout(5000)).send(eq("emails"), any(QueueMessage.class));
+        poller.close();
+    }
+
+    @Test
+    void constructor_FromProperties_UsesDefaultAndRequiredQueues() throws InterruptedException {
+        properties.setRequiredQueues(List.of("orders", "emails"));
+        properties.getPoller().setWorkerThreads(2);
+        properties.getPoller().getWeights().put("orders", 4);
+
+        Map<String, Integer> weights = MultiQueuePoller.resolveWeights(properties);
+        assertEquals(Map.of("default-queue", 1, "orders", 4, "emails", 1), weights);
+
+        CountDownLatch polled = new CountDownLatch(3);
+        when(mockQueueClient.poll(anyString())).thenAnswer(invocation -> {
+            polled.countDown();
+            return Optional.empty();
+        });
+
+        MultiQueuePoller poller = new MultiQueuePoller(mockQueueClient, handlers);
+        assertTrue(polled.await(2, TimeUnit.SECONDS));
+        poller.close();
+    }
+
+    @Test
+    void constructor_WithoutDestinations_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiQueuePoller(mockQueueClient, handlers, Map.of(), 1, false));
+    }
+
+    private static QueueMessage testMessage() {
+        QueueMessage message = new QueueMessage();
+        message.setType("TEST_MESSAGE");
+        return message;
+    }
+}
@@ -0,0 +1,143 @@
+package com.corems.common.queue.replay;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.queue.QueueClient;
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.queue.config.QueueProperties;
+import com.corems.common.queue.poller.QueueMessageDispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DeadLetterReplayerTest {
+
+    private QueueClient mockQueueClient;
+    private QueueProperties.RabbitMqProperties properties;
+    private DeadLetterReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        mockQueueClient = mock(QueueClient.class);
+        properties = new QueueProperties.RabbitMqProperties();
+        properties.getRetryPolicy().setDeadLetterQueue("dlq");
+        when(mockQueueClient.getProperties()).thenReturn(properties);
+        replayer = new DeadLetterReplayer(mockQueueClient);
+    }
+
+    @Test
+    void replay_WithMatchingMessages_RepublishesToOriginalDestinationWithAttemptsReset() {
+        QueueMessage first = deadLetter("ORDER_CREATED", "orders", "2024-01-01T10:00:00Z");
+        QueueMessage second = deadLetter("EMAIL_SENT", "emails", "2024-01-01T10:00:00Z");
+        when(mockQueueClient.pollBatch("dlq", 100)).thenReturn(List.of(first, second), List.of());
+
+        ReplayResult result = replayer.replay(new ReplayRequest());
+
+        assertEquals(new ReplayResult(2, 2, 0, 0), result);
+        ArgumentCaptor<QueueMessage> captor = ArgumentCaptor.forClass(QueueMessage.class);
+        verify(mockQueueClient).send(eq("orders"), captor.capture());
+        verify(mockQueueClient).send(eq("emails"), any(QueueMessage.class));
+        QueueMessage replayed = captor.getValue();
+        assertEquals(0, replayed.getAttempts());
+        assertFalse(replayed.getHeaders().containsKey(QueueMessageDispatcher.HEADER_FAILURE_REASON));
+        assertNotNull(replayed.getHeaders().get(DeadLetterReplayer.HEADER_REPLAYED_AT));
+    }
+
+    @Test
+    void replay_WithTypeFilter_ReturnsOtherMessagesToDeadLetterQueue() {
+        QueueMessage order = deadLetter("ORDER_CREATED", "orders", "2024-01-01T10:00:00Z");
+        QueueMessage email = deadLetter("EMAIL_SENT", "emails", "2024-01-01T10:00:00Z");
+        // The skipped email comes around again after the first batch
+        when(mockQueueClient.pollBatch("dlq", 100)).thenReturn(List.of(order, email), List.of(email));
+
+        ReplayResult result = replayer.replay(new ReplayRequest().withType("ORDER_CREATED"));
+
+        assertEquals(new ReplayResult(2, 1, 1, 0), result);
+        verify(mockQueueClient).send(eq("orders"), argThat(m -> m.getId().equals(order.getId())));
+        verify(mockQueueClient, times(2)).send("dlq", email);
+        verify(mockQueueClient, never()).send(eq("emails"), any(QueueMessage.class));
+    }
+
+    @Test
+    void replay_WithTimeWindow_ReplaysOnlyMessagesFailedInWindow() {
+        QueueMessage early = deadLetter("ORDER_CREATED", "orders", "2024-01-01T09:00:00Z");
+        QueueMessage inWindow = deadLetter("ORDER_CREATED", "orders", "2024-01-01T10:30:00Z");
+        when(mockQueueClient.pollBatch("dlq", 100)).thenReturn(List.of(early, inWindow), List.of());
+
+        ReplayRequest request = new ReplayRequest().withFailedBetween(
+                Instant.parse("2024-01-01T10:00:00Z"), Instant.parse("2024-01-01T11:00:00Z"));
+        ReplayResult result = replayer.replay(request);
+
+        assertEquals(1, result.replayed());
+        verify(mockQueueClient).send(eq("orders"), argThat(m -> m.getId().equals(inWindow.getId())));
+        verify(mockQueueClient).send("dlq", early);
+    }
+
+    @Test
+    void replay_WhenRepublishFails_ReturnsUntouchedOriginalToDeadLetterQueue() {
+        QueueMessage message = deadLetter("ORDER_CREATED", "orders", "2024-01-01T10:00:00Z");
+        when(mockQueueClient.pollBatch("dlq", 100)).thenReturn(List.of(message), List.of());
+        doThrow(new RuntimeException("broker down")).when(mockQueueClient).send(eq("orders"), any(QueueMessage.class));
+
+        ReplayResult result = replayer.replay(new ReplayRequest());
+
+        assertEquals(new ReplayResult(1, 0, 0, 1), result);
+        verify(mockQueueClient).send("dlq", message);
+        assertEquals(3, message.getAttempts());
+        assertEquals("orders", message.getHeaders().get(QueueMessageDispatcher.HEADER_ORIGINAL_DESTINATION));
+        assertEquals("2024-01-01T10:00:00Z", message.getHeaders().get(QueueMessageDispatcher.HEADER_FAILED_AT));
+        assertEquals("boom", message.getHeaders().get(QueueMessageDispatcher.HEADER_FAILURE_REASON));
+        assertFalse(message.getHeaders().containsKey(DeadLetterReplayer.HEADER_REPLAYED_AT));
+    }
+
+    @Test
+    void replay_WithRateLimit_PacesRepublishing() {
+        List<QueueMessage> batch = List.of(
+                deadLetter("T", "orders", "2024-01-01T10:00:00Z"),
+                deadLetter("T", "orders", "2024-01-01T10:00:00Z"),
+                deadLetter("T", "orders", "2024-01-01T10:00:00Z"));
+        when(mockQueueClient.pollBatch("dlq", 100)).thenReturn(batch, List.of());
+
+        ReplayRequest request = new ReplayRequest();
+        request.setMessagesPerSecond(20);
+        long start = System.nanoTime();
+        replayer.replay(request);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Three sends at 20/s need at least two 50ms gaps
+        assertTrue(elapsedMs >= 90, "elapsed " + elapsedMs + "ms");
+    }
+
+    @Test
+    void replay_WithMaxMessages_StopsAfterLimit() {
+        when(mockQueueClient.pollBatch("dlq", 1)).thenReturn(List.of(deadLetter("T", "orders", "2024-01-01T10:00:00Z")));
+
+        ReplayRequest request = new ReplayRequest();
+        request.setMaxMessages(1);
+        ReplayResult result = replayer.replay(request);
+
+        assertEquals(1, result.scanned());
+        verify(mockQueueClient, times(1)).pollBatch("dlq", 1);
+    }
+
+    @Test
+    void replay_WithoutDeadLetterQueue_ThrowsException() {
+        properties.getRetryPolicy().setDeadLetterQueue(null);
+
+        assertThrows(ServiceException.class, () -> replayer.replay(new ReplayRequest()));
+    }
+
+    private static QueueMessage deadLetter(String type, String destination, String failedAt) {
+        QueueMessage message = new QueueMessage();
+        message.setType(type);
+        message.setAttempts(3);
+        return message.withHeader(QueueMessageDispatcher.HEADER_FAILURE_REASON, "boom")
+                .withHeader(QueueMessageDispatcher.HEADER_FAILED_AT, failedAt)
+                .withHeader(QueueMessageDispatcher.HEADER_ORIGINAL_DESTINATION, destination);
+    }
+}
@@ -0,0 +1,53 @@
+package com.corems.common.queue.revocation;
+
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.security.service.TokenRevocationList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationMessageHandlerTest {
+
+    @Test
+    void handle_WithRevocationMessage_RevokesToken() {
+        TokenRevocationList revocationList = new TokenRevocationList(100, 0.01);
+        TokenRevocationMessageHandler handler = new TokenRevocationMessageHandler();
+        handler.subscribe(revocationList);
+        UUID tokenId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plus(10, ChronoUnit.MINUTES);
+
+        QueueMessage message = TokenRevocationMessageHandler.message(tokenId, expiresAt);
+        handler.handle(message);
+
+        assertEquals(TokenRevocationMessageHandler.MESSAGE_TYPE, message.getType());
+        assertEquals(expiresAt, message.getExpiresAt());
+        assertTrue(revocationList.isRevoked(tokenId));
+    }
+
+    @Test
+    void handle_WithMalformedPayload_IgnoresMessage() {
+        TokenRevocationList revocationList = new TokenRevocationList(100, 0.01);
+        TokenRevocationMessageHandler handler = new TokenRevocationMessageHandler();
+        handler.subscribe(revocationList);
+
+        QueueMessage message = new QueueMessage();
+        message.setType(TokenRevocationMessageHandler.MESSAGE_TYPE);
+        message.setPayload(Map.of("tokenId", "not-a-uuid", "expiresAt", "soon"));
+
+        assertDoesNotThrow(() -> handler.handle(message));
+        assertEquals(0, revocationList.size());
+    }
+
+    @Test
+    void handle_BeforeSubscribe_DropsMessage() {
+        TokenRevocationMessageHandler handler = new TokenRevocationMessageHandler();
+
+        assertDoesNotThrow(() -> handler.handle(
+                TokenRevocationMessageHandler.message(UUID.randomUUID(), Instant.now().plusSeconds(60))));
+    }
+}
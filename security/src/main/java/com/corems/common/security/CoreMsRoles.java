@@ -1,6 +1,11 @@
 package com.corems.common.security;
 
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -26,8 +31,82 @@ public enum CoreMsRoles {
     // Template Microservice Roles
     TEMPLATE_MS_ADMIN;
 
+    private static final String ROLE_PREFIX = "ROLE_";
+    // Authority string (with and without ROLE_ prefix) -> role, so lookups need no substring
+    private static final Map<String, CoreMsRoles> BY_AUTHORITY = new HashMap<>();
+    private static final long SYSTEM_ROLES_MASK;
+
+    static {
+        if (values().length > Long.SIZE) {
+            throw new IllegalStateException("CoreMsRoles role masks support at most " + Long.SIZE + " roles");
+        }
+        for (CoreMsRoles role : values()) {
+            BY_AUTHORITY.put(role.name(), role);
+            BY_AUTHORITY.put(ROLE_PREFIX + role.name(), role);
+        }
+        SYSTEM_ROLES_MASK = maskOf(getSystemRoles());
+    }
 
     public static Set<CoreMsRoles> getSystemRoles() {
         return EnumSet.of(SYSTEM, SUPER_ADMIN);
     }
+
+    /**
+     * Single-bit mask of this role, for allocation-free checks against {@link UserPrincipal#getRoleMask()}.
+     */
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    public static long systemRolesMask() {
+        return SYSTEM_ROLES_MASK;
+    }
+
+    public static long maskOf(Collection<CoreMsRoles> roles) {
+        long mask = 0L;
+        for (CoreMsRoles role : roles) {
+            mask |= role.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * Mask of the known roles among the given authorities; {@code ROLE_} prefixes are accepted and
+     * authorities that are not CoreMS roles are ignored.
+     */
+    public static long maskOfAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities == null) {
+            return 0L;
+        }
+        long mask = 0L;
+        for (GrantedAuthority authority : authorities) {
+            CoreMsRoles role = authority != null ? fromAuthority(authority.getAuthority()) : null;
+            if (role != null) {
+                mask |= role.mask();
+            }
+        }
+        return mask;
+    }
+
+    public static CoreMsRoles fromAuthority(String authority) {
+        return authority != null ? BY_AUTHORITY.get(authority) : null;
+    }
+
+    /**
+     * Role whose name equals {@code authority} exactly; a {@code ROLE_} prefix is not accepted.
+     */
+    public static CoreMsRoles fromName(String authority) {
+        CoreMsRoles role = fromAuthority(authority);
+        return role != null && role.name().length() == authority.length() ? role : null;
+    }
+
+    public static EnumSet<CoreMsRoles> fromMask(long mask) {
+        EnumSet<CoreMsRoles> roles = EnumSet.noneOf(CoreMsRoles.class);
+        for (CoreMsRoles role : values()) {
+            if ((mask & role.mask()) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
 }
@@ -12,56 +12,69 @@ import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Aspect
 @Component
 public class RequireRolesAspect {
 
+    // Resolved @RequireRoles per method and per target class, looked up once
+    private final Map<Method, RequiredRoles> methodRoles = new ConcurrentHashMap<>();
+    private final ClassValue<RequiredRoles> classRoles = new ClassValue<>() {
+        @Override
+        protected RequiredRoles computeValue(Class<?> type) {
+            return RequiredRoles.of(type.getAnnotation(RequireRoles.class));
+        }
+    };
+
     @Around("@within(com.corems.common.security.RequireRoles) || @annotation(com.corems.common.security.RequireRoles)")
     public Object enforceRoles(ProceedingJoinPoint pjp) throws Throwable {
         MethodSignature sig = (MethodSignature) pjp.getSignature();
         Method method = sig.getMethod();
 
-        RequireRoles annotation = method.getAnnotation(RequireRoles.class);
-        if (annotation == null) {
-            annotation = pjp.getTarget().getClass().getAnnotation(RequireRoles.class);
+        RequiredRoles required = methodRoles.computeIfAbsent(method,
+                m -> RequiredRoles.of(m.getAnnotation(RequireRoles.class)));
+        if (required == RequiredRoles.NONE) {
+            required = classRoles.get(pjp.getTarget().getClass());
         }
 
-        if (annotation == null) {
+        if (required == RequiredRoles.NONE) {
             return pjp.proceed();
         }
 
-        CoreMsRoles[] requiredRoles = annotation.value();
-
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) {
             throw ServiceException.of(DefaultExceptionReasonCodes.UNAUTHORIZED);
         }
 
-        Set<String> authorities = auth.getAuthorities().stream()
-                .map(a -> {
-                    String s = a.getAuthority();
-                    if (s.startsWith("ROLE_")) return s.substring(5);
-                    return s;
-                })
-                .collect(Collectors.toSet());
+        long roleMask = auth.getPrincipal() instanceof UserPrincipal principal
+                ? principal.getRoleMask()
+                : CoreMsRoles.maskOfAuthorities(auth.getAuthorities());
 
         // Always allow full access to SUPER_ADMIN or SYSTEM
-        if (authorities.contains(CoreMsRoles.SUPER_ADMIN.name()) || authorities.contains(CoreMsRoles.SYSTEM.name())) {
+        if ((roleMask & (required.mask() | CoreMsRoles.systemRolesMask())) != 0) {
             return pjp.proceed();
         }
 
-        boolean allowed = Arrays.stream(requiredRoles)
-                .map(CoreMsRoles::name)
-                .anyMatch(authorities::contains);
+        throw ServiceException.of(DefaultExceptionReasonCodes.FORBIDDEN);
+    }
 
-        if (allowed) {
-            return pjp.proceed();
-        }
+    /**
+     * Required roles of a method or class; {@link #NONE} when it is not annotated.
+     */
+    record RequiredRoles(EnumSet<CoreMsRoles> roles, long mask) {
 
-        throw ServiceException.of(DefaultExceptionReasonCodes.FORBIDDEN);
+        static final RequiredRoles NONE = new RequiredRoles(EnumSet.noneOf(CoreMsRoles.class), 0L);
+
+        static RequiredRoles of(RequireRoles annotation) {
+            if (annotation == null) {
+                return NONE;
+            }
+            EnumSet<CoreMsRoles> roles = EnumSet.noneOf(CoreMsRoles.class);
+            roles.addAll(Arrays.asList(annotation.value()));
+            return new RequiredRoles(roles, CoreMsRoles.maskOf(roles));
+        }
     }
 }
-
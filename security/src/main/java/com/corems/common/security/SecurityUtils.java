@@ -3,6 +3,7 @@ package com.corems.common.security;
 import java.util.Optional;
 
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.corems.common.exception.ServiceException;
@@ -31,18 +32,27 @@ public final class SecurityUtils {
 
     /**
      * Check if the current user has the specified role OR is SYSTEM or SUPER_ADMIN.
+     * Only authorities named exactly like the role count; unlike {@link RequireRoles}, a
+     * {@code ROLE_}-prefixed authority does not grant the role here.
      * @param role the role to check
      * @return true if user has the role, or is SYSTEM, or is SUPER_ADMIN
      */
     public static boolean hasRole(CoreMsRoles role) {
-        return getUserPrincipalOptional()
-                .map(up -> up.getAuthorities().stream()
-                        .anyMatch(grantedAuthority -> {
-                            String authority = grantedAuthority.getAuthority();
-                            return authority.equals(role.name())
-                                || authority.equals(CoreMsRoles.SYSTEM.name())
-                                || authority.equals(CoreMsRoles.SUPER_ADMIN.name());
-                        }))
-                .orElse(false);
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof UserPrincipal up)) {
+            return false;
+        }
+        long mask = role.mask() | CoreMsRoles.systemRolesMask();
+        // The role mask also counts ROLE_ prefixed authorities, so it can only rule a user out
+        if (!up.hasAnyRole(mask)) {
+            return false;
+        }
+        for (GrantedAuthority authority : up.getAuthorities()) {
+            CoreMsRoles granted = authority != null ? CoreMsRoles.fromName(authority.getAuthority()) : null;
+            if (granted != null && (granted.mask() & mask) != 0) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,142 @@
+package com.corems.common.security;
+
+import com.corems.common.security.service.TokenProvider;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Authentication set by {@code ServiceAuthenticationFilter} for a verified access token.
+ * <p>
+ * Built either from an already resolved {@link UserPrincipal} (verified-token cache hit) or from
+ * the verified claims, in which case the principal and its authorities are only created when
+ * first requested. Unlike {@code UsernamePasswordAuthenticationToken} it does not copy the
+ * authority list, and it carries request details only when the filter is configured to build them.
+ */
+public final class ServiceAuthentication implements Authentication {
+
+    private final transient Claims claims;
+    private final Object details;
+    private volatile UserPrincipal principal;
+    private volatile boolean authenticated = true;
+
+    private ServiceAuthentication(Claims claims, UserPrincipal principal, Object details) {
+        this.claims = claims;
+        this.principal = principal;
+        this.details = details;
+    }
+
+    public static ServiceAuthentication of(UserPrincipal principal, Object details) {
+        return new ServiceAuthentication(null, principal, details);
+    }
+
+    /**
+     * @param claims payload of a token whose signature and type were already verified
+     */
+    public static ServiceAuthentication fromVerifiedClaims(Claims claims, Object details) {
+        return new ServiceAuthentication(claims, null, details);
+    }
+
+    @Override
+    public UserPrincipal getPrincipal() {
+        UserPrincipal resolved = principal;
+        if (resolved == null) {
+            // Racing threads build equal principals; either may be kept
+            resolved = toPrincipal(claims);
+            principal = resolved;
+        }
+        return resolved;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return getPrincipal().getAuthorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return details;
+    }
+
+    /**
+     * The user id, read from the token subject without building the principal.
+     */
+    @Override
+    public String getName() {
+        UserPrincipal resolved = principal;
+        return resolved != null ? resolved.getName() : claims.getSubject();
+    }
+
+    /**
+     * The user id as a UUID, or {@code null} when the subject is absent (SYSTEM tokens) or not a UUID.
+     * Reads the token subject without building the principal, and returns the same value whether
+     * the principal was cached or not.
+     */
+    public UUID getUserId() {
+        UserPrincipal resolved = principal;
+        if (resolved != null) {
+            return resolved.getUserId();
+        }
+        String subject = claims.getSubject();
+        if (subject == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(subject);
+        } catch (IllegalArgumentException _) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("Cannot mark a token authentication as trusted, it is verified on creation");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [Name=" + getName() + ", Authenticated=" + authenticated + "]";
+    }
+
+    private static UserPrincipal toPrincipal(Claims claims) {
+        List<SimpleGrantedAuthority> authorities;
+        if (claims.get(TokenProvider.CLAIM_ROLES) instanceof List<?> roles) {
+            authorities = new ArrayList<>(roles.size());
+            for (Object role : roles) {
+                if (role != null) {
+                    authorities.add(new SimpleGrantedAuthority(role.toString()));
+                }
+            }
+        } else {
+            authorities = List.of();
+        }
+
+        return new UserPrincipal(
+                claims.getSubject(),
+                claims.get(TokenProvider.CLAIM_EMAIL, String.class),
+                claims.get(TokenProvider.CLAIM_FIRST_NAME, String.class),
+                claims.get(TokenProvider.CLAIM_LAST_NAME, String.class),
+                claims.get(TokenProvider.CLAIM_TOKEN_ID, String.class),
+                authorities
+        );
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.UUID;
 
@@ -18,6 +19,8 @@ public final class UserPrincipal implements UserDetails, OAuth2User {
     private String password;
     private UUID tokenId;
     private final Collection<? extends GrantedAuthority> authorities;
+    // CoreMsRoles bitmask resolved once from authorities, see CoreMsRoles#mask()
+    private final long roleMask;
 
     public UserPrincipal(String userId,
                          String email,
@@ -31,6 +34,7 @@ public final class UserPrincipal implements UserDetails, OAuth2User {
         this.firstName = firstName;
         this.lastName = lastName;
         this.authorities = authorities;
+        this.roleMask = CoreMsRoles.maskOfAuthorities(authorities);
     }
 
     public UserPrincipal(UUID userId,
@@ -45,6 +49,7 @@ public final class UserPrincipal implements UserDetails, OAuth2User {
         this.firstName = firstName;
         this.lastName = lastName;
         this.authorities = authorities;
+        this.roleMask = CoreMsRoles.maskOfAuthorities(authorities);
     }
 
     @Override
@@ -95,6 +100,21 @@ public final class UserPrincipal implements UserDetails, OAuth2User {
         return authorities;
     }
 
+    public EnumSet<CoreMsRoles> getRoles() {
+        return CoreMsRoles.fromMask(roleMask);
+    }
+
+    public boolean hasRole(CoreMsRoles role) {
+        return (roleMask & role.mask()) != 0;
+    }
+
+    /**
+     * @param mask roles combined with {@link CoreMsRoles#mask()} or {@link CoreMsRoles#maskOf}
+     */
+    public boolean hasAnyRole(long mask) {
+        return (roleMask & mask) != 0;
+    }
+
     @Override
     public String getName() {
         return String.valueOf(userId);
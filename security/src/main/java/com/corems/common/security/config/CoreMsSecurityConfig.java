@@ -1,10 +1,16 @@
 package com.corems.common.security.config;
 
+import com.corems.common.security.controller.JwksController;
 import com.corems.common.security.filter.MdcUserFilter;
 import com.corems.common.security.filter.ServiceAuthenticationFilter;
+import com.corems.common.security.ratelimit.RateLimitFilter;
+import com.corems.common.security.ratelimit.RateLimitStore;
 import com.corems.common.security.service.TokenProvider;
+import com.corems.common.security.service.TokenRevocationList;
+import com.corems.common.security.service.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -17,6 +23,8 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.csrf.CsrfFilter;
 
+import java.util.Arrays;
+
 /**
  * JWT-based security configuration for CoreMS services.
  * Active by default unless explicitly disabled via corems.security.enabled=false.
@@ -30,6 +38,7 @@ import org.springframework.security.web.csrf.CsrfFilter;
  * - MDC logging context with user information
  * - Stateless session management
  * - Configurable whitelist for public endpoints
+ * - Optional rate limiting via RateLimitFilter (corems.security.rate-limit.enabled=true)
  */
 @Slf4j
 @Configuration
@@ -41,17 +50,38 @@ public class CoreMsSecurityConfig {
 
     private final MdcUserFilter mdcUserFilter;
     private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final CoremsJwtProperties jwtProperties;
+    private final TokenRevocationList tokenRevocationList;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectProvider<RateLimitStore> rateLimitStore;
 
     @Value("${corems.security.whitelist:/actuator/health}")
     private String[] whiteListUrls;
 
+    @Value("${corems.security.web-details:false}")
+    private boolean webDetailsEnabled;
+
     @Bean
     public ServiceAuthenticationFilter serviceAuthenticationFilter() {
-        return new ServiceAuthenticationFilter(tokenProvider, whiteListUrls);
+        ServiceAuthenticationFilter filter =
+                new ServiceAuthenticationFilter(tokenProvider, whitelist(), verifiedTokenCache, tokenRevocationList);
+        filter.setWebDetailsEnabled(webDetailsEnabled);
+        return filter;
+    }
+
+    private String[] whitelist() {
+        if (!jwtProperties.isPublishJwks()) {
+            return whiteListUrls;
+        }
+        String[] urls = Arrays.copyOf(whiteListUrls, whiteListUrls.length + 1);
+        urls[whiteListUrls.length] = JwksController.JWKS_PATH;
+        return urls;
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        String[] whitelist = whitelist();
         http
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> {})
@@ -61,13 +91,21 @@ public class CoreMsSecurityConfig {
             .rememberMe(AbstractHttpConfigurer::disable)
             .httpBasic(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers(whiteListUrls).permitAll()
+                .requestMatchers(whitelist).permitAll()
                 .anyRequest().authenticated()
             )
-            .addFilterAfter(serviceAuthenticationFilter(), CsrfFilter.class)
-            .addFilterAfter(mdcUserFilter, ServiceAuthenticationFilter.class);
+            .addFilterAfter(serviceAuthenticationFilter(), CsrfFilter.class);
+
+        // Not a bean: a Filter bean would also be registered with the servlet container and run before authentication
+        RateLimitStore store = rateLimitProperties.isEnabled() ? rateLimitStore.getIfAvailable() : null;
+        if (store != null) {
+            http.addFilterAfter(new RateLimitFilter(rateLimitProperties, store), ServiceAuthenticationFilter.class)
+                .addFilterAfter(mdcUserFilter, RateLimitFilter.class);
+        } else {
+            http.addFilterAfter(mdcUserFilter, ServiceAuthenticationFilter.class);
+        }
 
-        log.info("CoreMS default JWT security enabled with whitelist: {}", String.join(", ", whiteListUrls));
+        log.info("CoreMS default JWT security enabled with whitelist: {}", String.join(", ", whitelist));
 
         return http.build();
     }
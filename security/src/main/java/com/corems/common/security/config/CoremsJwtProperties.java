@@ -4,6 +4,10 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "spring.security.jwt")
@@ -17,5 +21,19 @@ public class CoremsJwtProperties {
     private long accessExpirationTimeInMinutes = 10;
     private String issuer;
     private String keyId;
+    // Maximum number of verified access tokens kept by ServiceAuthenticationFilter, 0 disables the cache
+    private long verifiedTokenCacheSize = 10_000;
+    // Retired public keys (kid -> PEM) still accepted and published while their tokens can be valid
+    private Map<String, String> previousPublicKeys = new LinkedHashMap<>();
+    // Publish the public keys at /.well-known/jwks.json (issuing services)
+    private boolean publishJwks = false;
+    // Remote JWKS (http(s):// or file:) used instead of publicKey by verifying services
+    private String jwksUri;
+    private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+    // Lower bound between refreshes triggered by an unknown kid
+    private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+    // Sizing of the revoked token id Bloom filter used by ServiceAuthenticationFilter
+    private int revocationExpectedTokens = 100_000;
+    private double revocationFalsePositiveRate = 0.001;
 }
 
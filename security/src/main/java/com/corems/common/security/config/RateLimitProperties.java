@@ -0,0 +1,54 @@
+package com.corems.common.security.config;
+
+import com.corems.common.security.CoreMsRoles;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "corems.security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = false;
+    // Default limit for routes without a specific entry
+    private KeyBy keyBy = KeyBy.USER;
+    private long capacity = 100;
+    private double requestsPerSecond = 50;
+    // Bucket map bounds for the in-memory store
+    private long maxBuckets = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    // Principals holding any of these roles are never limited
+    private Set<CoreMsRoles> exemptRoles = EnumSet.of(CoreMsRoles.SYSTEM);
+    // Checked in order, first match wins
+    private List<Route> routes = new ArrayList<>();
+
+    public enum KeyBy {
+        // UserPrincipal.userId, client IP for anonymous requests
+        USER,
+        // The principal's role set, client IP for anonymous requests
+        ROLE,
+        IP
+    }
+
+    @Getter
+    @Setter
+    public static class Route {
+        // Path pattern, e.g. /api/search/**
+        private String pattern;
+        // HTTP method, any when unset
+        private String method;
+        // Unset values fall back to the defaults above
+        private KeyBy keyBy;
+        private Long capacity;
+        private Double requestsPerSecond;
+        // Skip limiting for this route
+        private boolean unlimited = false;
+    }
+}
@@ -1,13 +1,23 @@
 package com.corems.common.security.config;
 
+import com.corems.common.security.ratelimit.LocalRateLimitStore;
+import com.corems.common.security.ratelimit.RateLimitStore;
+import com.corems.common.security.service.JwksKeyResolver;
 import com.corems.common.security.service.TokenProvider;
+import com.corems.common.security.service.TokenRevocationFeed;
+import com.corems.common.security.service.TokenRevocationList;
+import com.corems.common.security.service.VerifiedTokenCache;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
+import java.net.URI;
+
 /**
  * Core autoconfiguration for security components.
  * Enables JWT properties and scans security package for filters and services.
@@ -18,7 +28,7 @@ import org.springframework.context.annotation.Configuration;
 @Slf4j
 @Configuration
 @ComponentScan("com.corems.common.security")
-@EnableConfigurationProperties(CoremsJwtProperties.class)
+@EnableConfigurationProperties({CoremsJwtProperties.class, RateLimitProperties.class})
 public class SecurityAutoConfiguration {
 
     public SecurityAutoConfiguration() {
@@ -27,8 +37,46 @@ public class SecurityAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public TokenProvider tokenProvider(CoremsJwtProperties jwtProperties) {
+    public TokenProvider tokenProvider(CoremsJwtProperties jwtProperties,
+                                       ObjectProvider<JwksKeyResolver> jwksKeyResolver) {
         log.debug("Creating TokenProvider bean with algorithm: {}", jwtProperties.getAlgorithm());
-        return new TokenProvider(jwtProperties);
+        return new TokenProvider(jwtProperties, jwksKeyResolver.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TokenRevocationList tokenRevocationList(CoremsJwtProperties jwtProperties,
+                                                   ObjectProvider<TokenRevocationFeed> revocationFeeds) {
+        TokenRevocationList revocationList = new TokenRevocationList(
+                jwtProperties.getRevocationExpectedTokens(), jwtProperties.getRevocationFalsePositiveRate());
+        revocationFeeds.orderedStream().forEach(feed -> {
+            log.debug("Subscribing token revocation feed {}", feed.getClass().getSimpleName());
+            feed.subscribe(revocationList);
+        });
+        return revocationList;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "corems.security.rate-limit.enabled", havingValue = "true")
+    public RateLimitStore rateLimitStore(RateLimitProperties rateLimitProperties) {
+        return new LocalRateLimitStore(rateLimitProperties.getMaxBuckets(), rateLimitProperties.getIdleTimeout());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "spring.security.jwt.jwks-uri")
+    public JwksKeyResolver jwksKeyResolver(CoremsJwtProperties jwtProperties) {
+        log.debug("Creating JwksKeyResolver for {}", jwtProperties.getJwksUri());
+        JwksKeyResolver resolver = new JwksKeyResolver(URI.create(jwtProperties.getJwksUri()),
+                jwtProperties.getJwksRefreshInterval(), jwtProperties.getJwksMinRefreshInterval());
+        resolver.start();
+        return resolver;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public VerifiedTokenCache verifiedTokenCache(CoremsJwtProperties jwtProperties) {
+        return new VerifiedTokenCache(jwtProperties.getVerifiedTokenCacheSize());
     }
 }
@@ -0,0 +1,39 @@
+package com.corems.common.security.controller;
+
+import com.corems.common.security.service.TokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Publishes the issuer's public keys (current and previous) as a JWKS document so verifying
+ * services can resolve keys by {@code kid} via {@code spring.security.jwt.jwks-uri}.
+ * <p>
+ * Enabled with {@code spring.security.jwt.publish-jwks=true}; the path is added to the
+ * security whitelist automatically.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.security.jwt.publish-jwks", havingValue = "true")
+public class JwksController {
+
+    public static final String JWKS_PATH = "/.well-known/jwks.json";
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private final TokenProvider tokenProvider;
+
+    @GetMapping(path = JWKS_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .body(tokenProvider.getJwkSet());
+    }
+}
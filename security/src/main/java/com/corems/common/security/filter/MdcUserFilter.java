@@ -1,5 +1,6 @@
 package com.corems.common.security.filter;
 
+import com.corems.common.security.ServiceAuthentication;
 import com.corems.common.security.UserPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,7 +25,13 @@ public class MdcUserFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
+        if (authentication instanceof ServiceAuthentication serviceAuthentication && serviceAuthentication.isAuthenticated()) {
+            // Token subject is the user id; avoids building the principal
+            UUID userId = serviceAuthentication.getUserId();
+            if (userId != null) {
+                MDC.put(MDC_USER_ID, userId.toString());
+            }
+        } else if (authentication != null && authentication.isAuthenticated()) {
             UUID userId = extractUserId(authentication);
             if (userId != null) {
                 MDC.put(MDC_USER_ID, userId.toString());
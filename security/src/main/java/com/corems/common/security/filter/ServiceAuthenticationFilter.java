@@ -1,7 +1,11 @@
 package com.corems.common.security.filter;
 
+import com.corems.common.security.ServiceAuthentication;
 import com.corems.common.security.UserPrincipal;
 import com.corems.common.security.service.TokenProvider;
+import com.corems.common.security.service.TokenRevocationList;
+import com.corems.common.security.service.UnverifiedTokenClaims;
+import com.corems.common.security.service.VerifiedTokenCache;
 import com.corems.common.exception.ServiceException;
 import com.corems.common.exception.handler.DefaultExceptionReasonCodes;
 import io.jsonwebtoken.Claims;
@@ -11,32 +15,47 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 @Slf4j
 public class ServiceAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
-    private final String[] whiteListUrls;
-    private final AntPathMatcher pathMatcher;
+    private final WhitelistMatcher whitelistMatcher;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList revocationList;
+    private static final WebAuthenticationDetailsSource WEB_DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+    // WebAuthenticationDetails (remote address, session id) are only built when enabled
+    @Setter
+    private boolean webDetailsEnabled = false;
 
     public ServiceAuthenticationFilter(TokenProvider tokenProvider, String[] whiteListUrls) {
+        this(tokenProvider, whiteListUrls, new VerifiedTokenCache(0));
+    }
+
+    public ServiceAuthenticationFilter(TokenProvider tokenProvider, String[] whiteListUrls, VerifiedTokenCache verifiedTokenCache) {
+        this(tokenProvider, whiteListUrls, verifiedTokenCache, null);
+    }
+
+    /**
+     * @param revocationList checked on every request, including verified-token cache hits; may be {@code null}
+     */
+    public ServiceAuthenticationFilter(TokenProvider tokenProvider, String[] whiteListUrls,
+                                       VerifiedTokenCache verifiedTokenCache, TokenRevocationList revocationList) {
         this.tokenProvider = tokenProvider;
-        this.whiteListUrls = whiteListUrls;
-        this.pathMatcher = new AntPathMatcher();
+        this.whitelistMatcher = new WhitelistMatcher(whiteListUrls);
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocationList = revocationList;
     }
 
     private String getJWTFromRequest(HttpServletRequest request) {
@@ -50,9 +69,7 @@ public class ServiceAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private boolean isWhitelisted(HttpServletRequest request) {
-        String requestPath = request.getRequestURI();
-        return Arrays.stream(whiteListUrls)
-                .anyMatch(pattern -> pathMatcher.match(pattern, requestPath));
+        return whitelistMatcher.matches(request.getRequestURI());
     }
 
     @Override
@@ -69,44 +86,8 @@ public class ServiceAuthenticationFilter extends OncePerRequestFilter {
 
         String jwt = getJWTFromRequest(request);
         if (StringUtils.hasText(jwt)) {
-            Jws<Claims> parsed = tokenProvider.parseToken(jwt);
-            Header header = parsed.getHeader();
-            if (!Objects.equals(header.getType(), TokenProvider.TOKEN_TYPE_ACCESS)) {
-                throw ServiceException.of(DefaultExceptionReasonCodes.UNAUTHORIZED, "Provided token has wrong type");
-            }
-
-            Claims claims = parsed.getPayload();
-
-            Object rolesObj = claims.get(TokenProvider.CLAIM_ROLES);
-            List<String> roles;
-            if (rolesObj instanceof List) {
-                roles = ((List<?>) rolesObj).stream()
-                        .filter(Objects::nonNull)
-                        .map(Object::toString)
-                        .toList();
-            } else {
-                roles = List.of();
-            }
-
-            List<SimpleGrantedAuthority> authorities = roles.stream()
-                    .map(SimpleGrantedAuthority::new)
-                    .toList();
-
-            UserPrincipal principal = new UserPrincipal(
-                    claims.getSubject(),
-                    claims.get(TokenProvider.CLAIM_EMAIL, String.class),
-                    claims.get(TokenProvider.CLAIM_FIRST_NAME, String.class),
-                    claims.get(TokenProvider.CLAIM_LAST_NAME, String.class),
-                    claims.get(TokenProvider.CLAIM_TOKEN_ID, String.class),
-                    authorities
-            );
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    principal,
-                    null,
-                    principal.getAuthorities()
-            );
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            Object details = webDetailsEnabled ? WEB_DETAILS_SOURCE.buildDetails(request) : null;
+            SecurityContextHolder.getContext().setAuthentication(resolveAuthentication(jwt, details));
         } else {
             throw ServiceException.of(DefaultExceptionReasonCodes.UNAUTHORIZED, "No token provided");
         }
@@ -114,4 +95,46 @@ public class ServiceAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Return the authentication for a token, verifying the signature only on a cache miss.
+     * Without a cache the principal is built from the claims only when first requested.
+     */
+    private ServiceAuthentication resolveAuthentication(String jwt, Object details) {
+        UserPrincipal cached = verifiedTokenCache.get(jwt);
+        if (cached != null) {
+            if (isRevoked(cached.getTokenId())) {
+                throw ServiceException.of(DefaultExceptionReasonCodes.UNAUTHORIZED, "Token revoked");
+            }
+            return ServiceAuthentication.of(cached, details);
+        }
+
+        // Unverified header peek: refresh/id tokens are rejected without signature work
+        if (!UnverifiedTokenClaims.hasType(jwt, TokenProvider.TOKEN_TYPE_ACCESS)) {
+            throw ServiceException.of(DefaultExceptionReasonCodes.UNAUTHORIZED, "Provided token has wrong type");
+        }
+
+        Jws<Claims> parsed = tokenProvider.parseToken(jwt);
+        Header header = parsed.getHeader();
+        if (!Objects.equals(header.getType(), TokenProvider.TOKEN_TYPE_ACCESS)) {
+            throw ServiceException.of(DefaultExceptionReasonCodes.UNAUTHORIZED, "Provided token has wrong type");
+        }
+
+        Claims claims = parsed.getPayload();
+        if (revocationList != null && !revocationList.isEmpty()) {
+            String tokenId = claims.get(TokenProvider.CLAIM_TOKEN_ID, String.class);
+            if (tokenId != null && isRevoked(UUID.fromString(tokenId))) {
+                throw ServiceException.of(DefaultExceptionReasonCodes.UNAUTHORIZED, "Token revoked");
+            }
+        }
+
+        ServiceAuthentication authentication = ServiceAuthentication.fromVerifiedClaims(claims, details);
+        if (verifiedTokenCache.isEnabled() && claims.getExpiration() != null) {
+            verifiedTokenCache.put(jwt, authentication.getPrincipal(), claims.getExpiration().toInstant());
+        }
+        return authentication;
+    }
+
+    private boolean isRevoked(UUID tokenId) {
+        return revocationList != null && revocationList.isRevoked(tokenId);
+    }
 }
@@ -0,0 +1,75 @@
+package com.corems.common.security.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Whitelist compiled once at startup. Literal paths go into a hash set, wildcard patterns are
+ * pre-parsed into {@link PathPattern}s. Patterns that {@link PathPatternParser} rejects (such as
+ * {@code **} in the middle of a path) keep Ant-style matching so existing whitelists behave as before.
+ */
+@Slf4j
+public final class WhitelistMatcher {
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final PathPattern[] pathPatterns;
+    private final String[] antPatterns;
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    public WhitelistMatcher(String[] whiteListUrls) {
+        List<PathPattern> parsed = new ArrayList<>();
+        List<String> ant = new ArrayList<>();
+        if (whiteListUrls != null) {
+            for (String url : whiteListUrls) {
+                if (url == null || url.isBlank()) {
+                    continue;
+                }
+                String pattern = url.trim();
+                if (!antPathMatcher.isPattern(pattern)) {
+                    exactPaths.add(pattern);
+                    continue;
+                }
+                try {
+                    parsed.add(PathPatternParser.defaultInstance.parse(pattern));
+                } catch (PatternParseException e) {
+                    log.debug("Whitelist pattern {} is not a PathPattern, using Ant matching: {}", pattern, e.getMessage());
+                    ant.add(pattern);
+                }
+            }
+        }
+        this.pathPatterns = parsed.toArray(PathPattern[]::new);
+        this.antPatterns = ant.toArray(String[]::new);
+    }
+
+    public boolean matches(String requestPath) {
+        if (requestPath == null) {
+            return false;
+        }
+        if (exactPaths.contains(requestPath)) {
+            return true;
+        }
+        if (pathPatterns.length > 0) {
+            PathContainer path = PathContainer.parsePath(requestPath);
+            for (PathPattern pattern : pathPatterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+        }
+        for (String pattern : antPatterns) {
+            if (antPathMatcher.match(pattern, requestPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,37 @@
+package com.corems.common.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * In-memory buckets for a single instance. The bucket map is bounded by {@code maxBuckets}
+ * and buckets idle for {@code idleTimeout} are evicted; an evicted bucket restarts full.
+ */
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalRateLimitStore(long maxBuckets, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public long tryConsume(String key, RateLimit limit) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            bucket = buckets.get(key, k -> new TokenBucket(limit, now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    public long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,20 @@
+package com.corems.common.security.ratelimit;
+
+/**
+ * Token bucket limit: up to {@code capacity} requests in a burst, refilled at {@code requestsPerSecond}.
+ */
+public record RateLimit(long capacity, double requestsPerSecond) {
+
+    public RateLimit {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (!(requestsPerSecond > 0)) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive");
+        }
+    }
+
+    public long intervalNanos() {
+        return Math.max(1L, (long) (1_000_000_000L / requestsPerSecond));
+    }
+}
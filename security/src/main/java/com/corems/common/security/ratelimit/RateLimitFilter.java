@@ -0,0 +1,129 @@
+package com.corems.common.security.ratelimit;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.exception.handler.DefaultExceptionReasonCodes;
+import com.corems.common.security.CoreMsRoles;
+import com.corems.common.security.UserPrincipal;
+import com.corems.common.security.config.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiting, placed right after {@code ServiceAuthenticationFilter} so buckets
+ * can be keyed by the authenticated principal. Routes from {@link RateLimitProperties#getRoutes()}
+ * are compiled once; requests not matching any route use the default limit.
+ * <p>
+ * Rejected requests get a {@code Retry-After} header and a {@code TOO_MANY_REQUESTS} {@link ServiceException}.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitStore store;
+    private final CompiledRoute defaultRoute;
+    private final List<CompiledRoute> routes;
+    private final long exemptRoleMask;
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimitStore store) {
+        this.store = store;
+        this.defaultRoute = new CompiledRoute("*", null, null, properties.getKeyBy(),
+                new RateLimit(properties.getCapacity(), properties.getRequestsPerSecond()));
+        this.routes = new ArrayList<>(properties.getRoutes().size());
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            routes.add(compile(route, properties));
+        }
+        this.exemptRoleMask = CoreMsRoles.maskOf(properties.getExemptRoles());
+    }
+
+    private static CompiledRoute compile(RateLimitProperties.Route route, RateLimitProperties defaults) {
+        if (route.getPattern() == null || route.getPattern().isBlank()) {
+            throw new IllegalArgumentException("Rate limit route requires a pattern");
+        }
+        String name = (route.getMethod() != null ? route.getMethod().toUpperCase() + " " : "") + route.getPattern();
+        RateLimit limit = route.isUnlimited() ? null : new RateLimit(
+                route.getCapacity() != null ? route.getCapacity() : defaults.getCapacity(),
+                route.getRequestsPerSecond() != null ? route.getRequestsPerSecond() : defaults.getRequestsPerSecond());
+        return new CompiledRoute(name,
+                PathPatternParser.defaultInstance.parse(route.getPattern()),
+                route.getMethod() != null ? route.getMethod().toUpperCase() : null,
+                route.getKeyBy() != null ? route.getKeyBy() : defaults.getKeyBy(),
+                limit);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CompiledRoute route = resolveRoute(request);
+        if (route.limit() == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        UserPrincipal principal = currentPrincipal();
+        if (principal != null && principal.hasAnyRole(exemptRoleMask)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = route.name() + '|' + subjectKey(route.keyBy(), principal, request);
+        long waitNanos = store.tryConsume(key, route.limit());
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            log.debug("Rate limit exceeded for {}", key);
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            throw ServiceException.of(DefaultExceptionReasonCodes.TOO_MANY_REQUESTS, "Rate limit exceeded");
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private CompiledRoute resolveRoute(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return defaultRoute;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        String method = request.getMethod();
+        for (CompiledRoute route : routes) {
+            if ((route.method() == null || route.method().equals(method)) && route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        return defaultRoute;
+    }
+
+    private static UserPrincipal currentPrincipal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof UserPrincipal principal ? principal : null;
+    }
+
+    private static String subjectKey(RateLimitProperties.KeyBy keyBy, UserPrincipal principal, HttpServletRequest request) {
+        if (principal != null) {
+            if (keyBy == RateLimitProperties.KeyBy.USER && principal.getUserId() != null) {
+                return "user:" + principal.getUserId();
+            }
+            if (keyBy == RateLimitProperties.KeyBy.ROLE) {
+                return "role:" + Long.toHexString(principal.getRoleMask());
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private record CompiledRoute(String name, PathPattern pattern, String method,
+                                 RateLimitProperties.KeyBy keyBy, RateLimit limit) {
+    }
+}
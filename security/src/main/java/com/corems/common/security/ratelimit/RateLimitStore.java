@@ -0,0 +1,16 @@
+package com.corems.common.security.ratelimit;
+
+/**
+ * Storage for rate limit buckets. {@link LocalRateLimitStore} keeps them in memory per instance;
+ * a shared implementation (e.g. Redis) can be registered as a bean for cluster-wide limits.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes one token from the bucket identified by {@code key}, creating it with {@code limit}
+     * on first use.
+     *
+     * @return {@code 0} when the request is allowed, otherwise nanoseconds until a token is available
+     */
+    long tryConsume(String key, RateLimit limit);
+}
@@ -0,0 +1,181 @@
+package com.corems.common.security.service;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Resolves verification keys by {@code kid} from a remote JWKS document.
+ * <p>
+ * The key set is held in memory and refreshed on a background thread every
+ * {@code refreshInterval}. A failed refresh keeps serving the last good key set
+ * (stale-while-revalidate), and an unknown {@code kid} schedules an early refresh
+ * (at most once per {@code minRefreshInterval}) instead of fetching inline, so token
+ * verification never waits on the network.
+ * <p>
+ * Supports {@code http(s)://} and {@code file:} URIs.
+ */
+@Slf4j
+public class JwksKeyResolver extends LocatorAdapter<Key> implements AutoCloseable {
+
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI jwksUri;
+    private final Duration refreshInterval;
+    private final long minRefreshIntervalNanos;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefreshNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+
+    public JwksKeyResolver(URI jwksUri, Duration refreshInterval, Duration minRefreshInterval) {
+        if (refreshInterval == null || refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("refreshInterval must be positive");
+        }
+        this.jwksUri = jwksUri;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshIntervalNanos = minRefreshInterval != null ? minRefreshInterval.toNanos() : 0L;
+        this.httpClient = "file".equalsIgnoreCase(jwksUri.getScheme())
+                ? null
+                : HttpClient.newBuilder().connectTimeout(HTTP_TIMEOUT).build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "jwks-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Loads the key set once and schedules periodic refreshes. A failed initial load is
+     * logged and retried on schedule; tokens are rejected until a key set is available.
+     */
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            refresh();
+            long periodMs = refreshInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::refresh, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        Map<String, PublicKey> current = keys;
+        String kid = header.getKeyId();
+        PublicKey key;
+        if (kid != null) {
+            key = current.get(kid);
+        } else {
+            key = current.size() == 1 ? current.values().iterator().next() : null;
+        }
+
+        if (key == null) {
+            requestRefresh();
+            throw new InvalidKeyException(kid != null
+                    ? "No JWKS key found for kid " + kid
+                    : "Token has no kid and the JWKS contains " + current.size() + " keys");
+        }
+        return key;
+    }
+
+    public Set<String> getKeyIds() {
+        return keys.keySet();
+    }
+
+    /**
+     * Fetches the key set now. Keeps the previous keys when the fetch fails or yields no usable key.
+     *
+     * @return {@code true} when a new key set was installed
+     */
+    public boolean refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            lastRefreshNanos = System.nanoTime();
+            Map<String, PublicKey> loaded = parse(fetch());
+            if (loaded.isEmpty()) {
+                log.warn("JWKS from {} contains no usable keys, keeping {} cached key(s)", jwksUri, keys.size());
+                return false;
+            }
+            if (!loaded.keySet().equals(keys.keySet())) {
+                log.info("JWKS from {} loaded with key ids {}", jwksUri, loaded.keySet());
+            }
+            keys = loaded;
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to refresh JWKS from {}, keeping {} cached key(s): {}", jwksUri, keys.size(), e.getMessage());
+            return false;
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private void requestRefresh() {
+        if (!started.get() || System.nanoTime() - lastRefreshNanos < minRefreshIntervalNanos) {
+            return;
+        }
+        try {
+            scheduler.execute(this::refresh);
+        } catch (RejectedExecutionException _) {
+            // Shutting down
+        }
+    }
+
+    private String fetch() throws IOException, InterruptedException {
+        if (httpClient == null) {
+            return Files.readString(Path.of(jwksUri));
+        }
+        HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .timeout(HTTP_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Unexpected HTTP status " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static Map<String, PublicKey> parse(String json) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(json);
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk.getId() != null && jwk.toKey() instanceof PublicKey publicKey) {
+                parsed.put(jwk.getId(), publicKey);
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,11 @@
+package com.corems.common.security.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A revoked token id ({@link TokenProvider#CLAIM_TOKEN_ID}) and the instant the token would have
+ * expired anyway, after which the revocation can be forgotten.
+ */
+public record RevokedToken(UUID tokenId, Instant expiresAt) {
+}
@@ -0,0 +1,15 @@
+package com.corems.common.security.service;
+
+/**
+ * Source of revocations for a {@link TokenRevocationList}, e.g. a queue subscription or a poll of
+ * the auth service. Every registered feed is subscribed once at startup.
+ */
+@FunctionalInterface
+public interface TokenRevocationFeed {
+
+    /**
+     * Starts delivering revocations to the list; implementations call
+     * {@link TokenRevocationList#revoke(RevokedToken)} for each one received.
+     */
+    void subscribe(TokenRevocationList revocationList);
+}
@@ -0,0 +1,153 @@
+package com.corems.common.security.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory denylist of revoked token ids.
+ * <p>
+ * A Bloom filter sits in front of an exact map of token id to expiry. Almost every request
+ * presents a token that was never revoked, and the filter answers those with a few bit probes
+ * and no allocation. Only filter hits (revoked tokens plus roughly {@code falsePositiveRate}
+ * of the rest) reach the exact map. Entries are dropped once their token has expired. The
+ * filter cannot delete, so it is rebuilt from the live entries after enough revocations.
+ */
+@Slf4j
+public class TokenRevocationList {
+
+    private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+    private final int expectedTokens;
+    private final double falsePositiveRate;
+    private final AtomicInteger addedSinceRebuild = new AtomicInteger();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(int expectedTokens, double falsePositiveRate) {
+        if (expectedTokens < 1) {
+            throw new IllegalArgumentException("expectedTokens must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedTokens, falsePositiveRate);
+    }
+
+    public boolean isRevoked(UUID tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        Instant expiresAt = revoked.get(tokenId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (!expiresAt.isAfter(Instant.now())) {
+            revoked.remove(tokenId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public void revoke(RevokedToken token) {
+        revoke(token.tokenId(), token.expiresAt());
+    }
+
+    /**
+     * Revokes a token until {@code expiresAt}; revocations of already expired tokens are ignored.
+     */
+    public void revoke(UUID tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revoked.merge(tokenId, expiresAt, (current, next) -> next.isAfter(current) ? next : current);
+        filter.put(tokenId);
+
+        if (addedSinceRebuild.incrementAndGet() >= expectedTokens) {
+            purgeExpired();
+        }
+    }
+
+    /**
+     * Drops expired revocations and rebuilds the Bloom filter from the remaining ones.
+     */
+    public synchronized void purgeExpired() {
+        Instant now = Instant.now();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        int live = revoked.size();
+        if (live > expectedTokens) {
+            log.warn("{} live token revocations exceed the expected {}, false positive rate will rise", live, expectedTokens);
+        }
+        addedSinceRebuild.set(0);
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, live), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        // Revocations racing with the rebuild may be missing from the new filter; add them again
+        this.filter = rebuilt;
+        revoked.keySet().forEach(rebuilt::put);
+    }
+
+    public boolean isEmpty() {
+        return revoked.isEmpty();
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * Bloom filter over UUIDs using double hashing of the two UUID halves.
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedEntries, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (m + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        }
+
+        void put(UUID id) {
+            long h1 = mix(id.getMostSignificantBits());
+            long h2 = mix(id.getLeastSignificantBits()) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(UUID id) {
+            long h1 = mix(id.getMostSignificantBits());
+            long h2 = mix(id.getLeastSignificantBits()) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // SplitMix64 finalizer; random UUIDs are already uniform but time-ordered ones are not
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.corems.common.security.service;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.exception.handler.DefaultExceptionReasonCodes;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads header and claim values from a JWT <b>without verifying its signature</b>.
+ * <p>
+ * Nothing returned here can be trusted: anyone can forge a token with any {@code sub} or
+ * {@code roles}. Use it only for decisions that are safe on forged input, such as choosing a
+ * rate-limit bucket or rejecting a token early, and never for authorization. Verified claims
+ * come from {@link TokenProvider#parseToken(String)}.
+ * <p>
+ * The header and payload are Base64URL-decoded straight from the token characters, and the
+ * JSON is scanned in place. Only the requested claims are materialized, with no full JSON parse.
+ */
+public final class UnverifiedTokenClaims {
+
+    private static final byte[] BASE64_URL = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final byte[] header;
+    private final byte[] payload;
+
+    private UnverifiedTokenClaims(byte[] header, byte[] payload) {
+        this.header = header;
+        this.payload = payload;
+    }
+
+    /**
+     * Decodes header and payload of a compact JWS.
+     *
+     * @throws ServiceException UNAUTHORIZED when the token is not a well-formed three-part JWT
+     */
+    public static UnverifiedTokenClaims decode(String token) {
+        int[] dots = dots(token);
+        if (dots == null) {
+            throw malformed();
+        }
+        return new UnverifiedTokenClaims(decodeSegment(token, 0, dots[0]), decodeSegment(token, dots[0] + 1, dots[1]));
+    }
+
+    /**
+     * Checks the {@code typ} header, decoding only the header segment. Returns {@code false}
+     * for malformed tokens, so callers can reject before any signature work.
+     */
+    public static boolean hasType(String token, String expectedType) {
+        int[] dots = dots(token);
+        if (dots == null) {
+            return false;
+        }
+        try {
+            return expectedType.equals(readString(decodeSegment(token, 0, dots[0]), "typ"));
+        } catch (ServiceException _) {
+            return false;
+        }
+    }
+
+    public String getType() {
+        return readString(header, "typ");
+    }
+
+    public String getKeyId() {
+        return readString(header, "kid");
+    }
+
+    public String getSubject() {
+        return readString(payload, "sub");
+    }
+
+    public List<String> getRoles() {
+        return readStringList(payload, TokenProvider.CLAIM_ROLES);
+    }
+
+    public Instant getExpiration() {
+        String exp = readString(payload, "exp");
+        if (exp == null) {
+            return null;
+        }
+        try {
+            return Instant.ofEpochSecond(Long.parseLong(exp));
+        } catch (NumberFormatException _) {
+            throw malformed();
+        }
+    }
+
+    /**
+     * String value of a top-level claim; numbers and booleans are returned as their JSON text,
+     * objects and arrays as {@code null}.
+     */
+    public String getClaim(String name) {
+        return readString(payload, name);
+    }
+
+    /**
+     * String elements of a top-level array claim, or an empty list when absent.
+     */
+    public List<String> getClaimAsList(String name) {
+        return readStringList(payload, name);
+    }
+
+    private static int[] dots(String token) {
+        if (token == null) {
+            return null;
+        }
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        if (first <= 0 || second < 0 || token.indexOf('.', second + 1) >= 0) {
+            return null;
+        }
+        return new int[] {first, second};
+    }
+
+    private static byte[] decodeSegment(String token, int start, int end) {
+        int length = end - start;
+        if (length % 4 == 1) {
+            throw malformed();
+        }
+        byte[] out = new byte[length * 3 / 4];
+        int buffer = 0;
+        int bits = 0;
+        int o = 0;
+        for (int i = start; i < end; i++) {
+            char c = token.charAt(i);
+            int v = c < 128 ? BASE64_URL[c] : -1;
+            if (v < 0) {
+                throw malformed();
+            }
+            buffer = (buffer << 6) | v;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                out[o++] = (byte) (buffer >> bits);
+            }
+        }
+        return out;
+    }
+
+    // Minimal in-place scanner for a flat JSON object; nested values are skipped, not parsed
+
+    private static String readString(byte[] json, String name) {
+        int pos = findValue(json, name);
+        if (pos < 0) {
+            return null;
+        }
+        byte b = json[pos];
+        if (b == '"') {
+            return stringAt(json, pos);
+        }
+        if (b == '{' || b == '[') {
+            return null;
+        }
+        int end = skipValue(json, pos);
+        String literal = new String(json, pos, end - pos, StandardCharsets.US_ASCII);
+        return "null".equals(literal) ? null : literal;
+    }
+
+    private static List<String> readStringList(byte[] json, String name) {
+        int pos = findValue(json, name);
+        if (pos < 0 || json[pos] != '[') {
+            return List.of();
+        }
+        List<String> values = new ArrayList<>();
+        pos = skipWhitespace(json, pos + 1);
+        while (pos < json.length && json[pos] != ']') {
+            if (json[pos] == '"') {
+                values.add(stringAt(json, pos));
+            }
+            int next = skipValue(json, pos);
+            if (next == pos) {
+                throw malformed();
+            }
+            pos = skipWhitespace(json, next);
+            if (pos < json.length && json[pos] == ',') {
+                pos = skipWhitespace(json, pos + 1);
+            }
+        }
+        return values;
+    }
+
+    private static int findValue(byte[] json, String name) {
+        int pos = skipWhitespace(json, 0);
+        expect(json, pos, '{');
+        pos = skipWhitespace(json, pos + 1);
+        while (pos < json.length && json[pos] != '}') {
+            expect(json, pos, '"');
+            int keyEnd = endOfString(json, pos);
+            boolean match = keyEquals(json, pos, keyEnd, name);
+            pos = skipWhitespace(json, keyEnd + 1);
+            expect(json, pos, ':');
+            pos = skipWhitespace(json, pos + 1);
+            if (match) {
+                expectInBounds(json, pos);
+                return pos;
+            }
+            pos = skipWhitespace(json, skipValue(json, pos));
+            if (pos < json.length && json[pos] == ',') {
+                pos = skipWhitespace(json, pos + 1);
+            }
+        }
+        return -1;
+    }
+
+    private static boolean keyEquals(byte[] json, int quote, int closingQuote, String name) {
+        int length = closingQuote - quote - 1;
+        if (length != name.length()) {
+            // Escaped keys are longer than their value; compare decoded
+            return length > name.length() && name.equals(stringAt(json, quote));
+        }
+        for (int i = 0; i < length; i++) {
+            if (json[quote + 1 + i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipValue(byte[] json, int pos) {
+        expectInBounds(json, pos);
+        byte b = json[pos];
+        if (b == '"') {
+            return endOfString(json, pos) + 1;
+        }
+        if (b == '{' || b == '[') {
+            int depth = 0;
+            while (pos < json.length) {
+                byte c = json[pos];
+                if (c == '"') {
+                    pos = endOfString(json, pos);
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    if (--depth == 0) {
+                        return pos + 1;
+                    }
+                }
+                pos++;
+            }
+            throw malformed();
+        }
+        while (pos < json.length) {
+            byte c = json[pos];
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int endOfString(byte[] json, int quote) {
+        for (int pos = quote + 1; pos < json.length; pos++) {
+            if (json[pos] == '\\') {
+                pos++;
+            } else if (json[pos] == '"') {
+                return pos;
+            }
+        }
+        throw malformed();
+    }
+
+    private static String stringAt(byte[] json, int quote) {
+        int end = endOfString(json, quote);
+        int start = quote + 1;
+        int escape = -1;
+        for (int i = start; i < end; i++) {
+            if (json[i] == '\\') {
+                escape = i;
+                break;
+            }
+        }
+        if (escape < 0) {
+            return new String(json, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        StringBuilder sb = new StringBuilder(end - start);
+        sb.append(new String(json, start, escape - start, StandardCharsets.UTF_8));
+        int i = escape;
+        while (i < end) {
+            byte b = json[i];
+            if (b != '\\') {
+                int runEnd = i;
+                while (runEnd < end && json[runEnd] != '\\') {
+                    runEnd++;
+                }
+                sb.append(new String(json, i, runEnd - i, StandardCharsets.UTF_8));
+                i = runEnd;
+                continue;
+            }
+            byte e = json[i + 1];
+            switch (e) {
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (i + 6 > end) {
+                        throw malformed();
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(new String(json, i + 2, 4, StandardCharsets.US_ASCII), 16));
+                    } catch (NumberFormatException _) {
+                        throw malformed();
+                    }
+                    i += 4;
+                }
+                default -> sb.append((char) e);
+            }
+            i += 2;
+        }
+        return sb.toString();
+    }
+
+    private static int skipWhitespace(byte[] json, int pos) {
+        while (pos < json.length) {
+            byte b = json[pos];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static void expect(byte[] json, int pos, char expected) {
+        expectInBounds(json, pos);
+        if (json[pos] != expected) {
+            throw malformed();
+        }
+    }
+
+    private static void expectInBounds(byte[] json, int pos) {
+        if (pos >= json.length) {
+            throw malformed();
+        }
+    }
+
+    private static ServiceException malformed() {
+        return ServiceException.of(DefaultExceptionReasonCodes.UNAUTHORIZED, "Malformed token");
+    }
+}
@@ -0,0 +1,139 @@
+package com.corems.common.security.service;
+
+import com.corems.common.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bounded cache of access tokens that already passed signature verification.
+ * <p>
+ * Entries are keyed by the SHA-256 of the token, so raw tokens are not retained, and expire
+ * exactly at the token's {@code exp}. Eviction under size pressure is W-TinyLFU, which keeps
+ * frequently presented tokens over one-off ones.
+ * <p>
+ * {@link UserPrincipal} is mutable, so the cache keeps an immutable snapshot of it and every
+ * {@link #get} returns a new principal; a request changing its principal cannot affect others.
+ */
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(long maximumSize) {
+        this.cache = maximumSize > 0
+                ? Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfter(new ExpireAtTokenExp())
+                    .build()
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Return a new principal for this token, or {@code null} when absent or expired.
+     */
+    public UserPrincipal get(String token) {
+        if (cache == null) {
+            return null;
+        }
+        VerifiedToken verified = cache.getIfPresent(key(token));
+        if (verified == null || !verified.expiresAt().isAfter(Instant.now())) {
+            return null;
+        }
+        return verified.toPrincipal();
+    }
+
+    public void put(String token, UserPrincipal principal, Instant expiresAt) {
+        if (cache == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        cache.put(key(token), VerifiedToken.of(principal, expiresAt));
+    }
+
+    public void invalidate(String token) {
+        if (cache != null) {
+            cache.invalidate(key(token));
+        }
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    public long size() {
+        if (cache == null) {
+            return 0;
+        }
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    static String key(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return Base64.getEncoder().withoutPadding()
+                .encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private record VerifiedToken(UUID userId, String email, String firstName, String lastName, UUID tokenId,
+                                 List<GrantedAuthority> authorities, Instant expiresAt) {
+
+        static VerifiedToken of(UserPrincipal principal, Instant expiresAt) {
+            return new VerifiedToken(principal.getUserId(), principal.getEmail(), principal.getFirstName(),
+                    principal.getLastName(), principal.getTokenId(), copyOf(principal.getAuthorities()), expiresAt);
+        }
+
+        UserPrincipal toPrincipal() {
+            return new UserPrincipal(userId, email, firstName, lastName, tokenId, authorities);
+        }
+
+        private static List<GrantedAuthority> copyOf(Collection<? extends GrantedAuthority> authorities) {
+            return authorities == null ? List.of() : List.copyOf(authorities);
+        }
+    }
+
+    private static final class ExpireAtTokenExp implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return remainingNanos(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return remainingNanos(value);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private static long remainingNanos(VerifiedToken value) {
+            long millis = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0L, millis) * 1_000_000L;
+        }
+    }
+}
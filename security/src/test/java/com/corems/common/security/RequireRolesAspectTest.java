@@ -0,0 +1,112 @@
+package com.corems.common.security;
+
+import com.corems.common.exception.ServiceException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RequireRolesAspectTest {
+
+    private final RequireRolesAspect aspect = new RequireRolesAspect();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void enforceRoles_WithRequiredRole_Proceeds() throws Throwable {
+        authenticate(CoreMsRoles.DOCUMENT_MS_USER);
+        ProceedingJoinPoint pjp = joinPoint(new AnnotatedService(), "documentsOnly");
+
+        assertEquals("ok", aspect.enforceRoles(pjp));
+        assertEquals("ok", aspect.enforceRoles(pjp));
+        verify(pjp, times(2)).proceed();
+    }
+
+    @Test
+    void enforceRoles_WithoutRequiredRole_ThrowsForbidden() throws Throwable {
+        authenticate(CoreMsRoles.USER_MS_USER);
+        ProceedingJoinPoint pjp = joinPoint(new AnnotatedService(), "documentsOnly");
+
+        assertThrows(ServiceException.class, () -> aspect.enforceRoles(pjp));
+        verify(pjp, never()).proceed();
+    }
+
+    @Test
+    void enforceRoles_WithSuperAdmin_Proceeds() throws Throwable {
+        authenticate(CoreMsRoles.SUPER_ADMIN);
+        ProceedingJoinPoint pjp = joinPoint(new AnnotatedService(), "documentsOnly");
+
+        assertEquals("ok", aspect.enforceRoles(pjp));
+    }
+
+    @Test
+    void enforceRoles_WithClassLevelAnnotation_UsesClassRoles() throws Throwable {
+        authenticate(CoreMsRoles.USER_MS_ADMIN);
+
+        assertEquals("ok", aspect.enforceRoles(joinPoint(new AnnotatedService(), "inheritsClassRoles")));
+        assertThrows(ServiceException.class,
+                () -> aspect.enforceRoles(joinPoint(new AnnotatedService(), "documentsOnly")));
+    }
+
+    @Test
+    void enforceRoles_WithNonUserPrincipal_UsesAuthorities() throws Throwable {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("client", null, "ROLE_DOCUMENT_MS_USER"));
+        ProceedingJoinPoint pjp = joinPoint(new AnnotatedService(), "documentsOnly");
+
+        assertEquals("ok", aspect.enforceRoles(pjp));
+    }
+
+    @Test
+    void enforceRoles_WithoutAuthentication_ThrowsUnauthorized() throws Throwable {
+        ProceedingJoinPoint pjp = joinPoint(new AnnotatedService(), "documentsOnly");
+
+        assertThrows(ServiceException.class, () -> aspect.enforceRoles(pjp));
+    }
+
+    private static void authenticate(CoreMsRoles role) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role.name()));
+        UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), "john@example.com", "John", "Doe",
+                (UUID) null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, authorities));
+    }
+
+    private static ProceedingJoinPoint joinPoint(Object target, String methodName) throws Throwable {
+        Method method = target.getClass().getDeclaredMethod(methodName);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+        when(pjp.getSignature()).thenReturn(signature);
+        when(pjp.getTarget()).thenReturn(target);
+        when(pjp.proceed()).thenReturn("ok");
+        return pjp;
+    }
+
+    @RequireRoles(CoreMsRoles.USER_MS_ADMIN)
+    static class AnnotatedService {
+
+        @RequireRoles({CoreMsRoles.DOCUMENT_MS_USER, CoreMsRoles.DOCUMENT_MS_ADMIN})
+        String documentsOnly() {
+            return "ok";
+        }
+
+        String inheritsClassRoles() {
+            return "ok";
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -158,6 +159,28 @@ class SecurityUtilsTest {
         assertFalse(SecurityUtils.hasRole(CoreMsRoles.DOCUMENT_MS_ADMIN));
     }
 
+    @Test
+    void hasRole_WhenAuthorityHasRolePrefix_ReturnsFalse() {
+        UserPrincipal userPrincipal = new UserPrincipal(UUID.randomUUID(), "test@example.com", "John", "Doe",
+            UUID.randomUUID(), List.of(new SimpleGrantedAuthority("ROLE_DOCUMENT_MS_USER"), new SimpleGrantedAuthority("ROLE_SYSTEM")));
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(userPrincipal);
+
+        // Exact names only, as before role masks; @RequireRoles keeps accepting the prefix
+        assertFalse(SecurityUtils.hasRole(CoreMsRoles.DOCUMENT_MS_USER));
+        assertEquals(EnumSet.of(CoreMsRoles.DOCUMENT_MS_USER, CoreMsRoles.SYSTEM), userPrincipal.getRoles());
+    }
+
+    @Test
+    void userPrincipal_RoleMask_IsResolvedFromAuthorities() {
+        UserPrincipal userPrincipal = createTestUserPrincipal(CoreMsRoles.USER_MS_ADMIN);
+
+        assertEquals(CoreMsRoles.USER_MS_ADMIN.mask(), userPrincipal.getRoleMask());
+        assertTrue(userPrincipal.hasRole(CoreMsRoles.USER_MS_ADMIN));
+        assertFalse(userPrincipal.hasRole(CoreMsRoles.USER_MS_USER));
+        assertTrue(userPrincipal.hasAnyRole(CoreMsRoles.maskOf(EnumSet.of(CoreMsRoles.USER_MS_USER, CoreMsRoles.USER_MS_ADMIN))));
+    }
+
     private UserPrincipal createTestUserPrincipal(CoreMsRoles role) {
         List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role.name()));
         return new UserPrincipal(
@@ -0,0 +1,108 @@
+package com.corems.common.security.benchmark;
+
+import com.corems.common.security.config.CoremsJwtProperties;
+import com.corems.common.security.config.JwtAlgorithm;
+import com.corems.common.security.service.TokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sign and verify cost of {@link TokenProvider} per algorithm family, with the same claims
+ * set for each. Token size per algorithm is asserted in {@code TokenProviderTest} rather than measured here.
+ * <p>
+ * Run with {@code main}; the GC profiler reports {@code gc.alloc.rate.norm} (bytes per op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenSigningBenchmark {
+
+    private static final String SUBJECT = "123e4567-e89b-12d3-a456-426614174000";
+    private static final Map<String, Object> CLAIMS = Map.of(
+            TokenProvider.CLAIM_EMAIL, "john@example.com",
+            TokenProvider.CLAIM_FIRST_NAME, "John",
+            TokenProvider.CLAIM_LAST_NAME, "Doe",
+            TokenProvider.CLAIM_ROLES, List.of("USER_MS_USER", "DOCUMENT_MS_USER"));
+
+    @Param({"HS256", "RS256", "ES256"})
+    private String algorithm;
+
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        CoremsJwtProperties properties = new CoremsJwtProperties();
+        properties.setAlgorithm(JwtAlgorithm.valueOf(algorithm));
+        properties.setIssuer("http://localhost:3000");
+        switch (properties.getAlgorithm()) {
+            case HS256 -> properties.setSecretKey(Base64.getEncoder().encodeToString(new byte[32]));
+            case RS256 -> applyKeyPair(properties, keyPair("RSA", null));
+            case ES256 -> applyKeyPair(properties, keyPair("EC", "secp256r1"));
+            default -> throw new IllegalArgumentException("Unsupported benchmark algorithm " + algorithm);
+        }
+        tokenProvider = new TokenProvider(properties);
+        token = tokenProvider.createAccessToken(SUBJECT, CLAIMS);
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenProvider.createAccessToken(SUBJECT, CLAIMS);
+    }
+
+    @Benchmark
+    public Object verify() {
+        return tokenProvider.getAllClaims(token);
+    }
+
+    private static KeyPair keyPair(String type, String curve) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(type);
+        if (curve != null) {
+            generator.initialize(new ECGenParameterSpec(curve));
+        } else {
+            generator.initialize(2048);
+        }
+        return generator.generateKeyPair();
+    }
+
+    private static void applyKeyPair(CoremsJwtProperties properties, KeyPair keyPair) {
+        properties.setPrivateKey(pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        properties.setPublicKey(pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n" + Base64.getMimeEncoder().encodeToString(der) + "\n-----END " + type + "-----\n";
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TokenSigningBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.corems.common.security.benchmark;
+
+import com.corems.common.security.filter.WhitelistMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whitelist check for an authenticated (non-whitelisted) request, which has to test every
+ * pattern. {@code antPathMatcher} reproduces the previous per-request matching for comparison.
+ * <p>
+ * Run with {@code main}; the GC profiler reports {@code gc.alloc.rate.norm} (bytes per op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WhitelistMatchBenchmark {
+
+    @Param({"4", "64", "512"})
+    private int whitelistSize;
+
+    @Param({"/api/users/123e4567-e89b-12d3-a456-426614174000/profile", "/actuator/health"})
+    private String requestPath;
+
+    private String[] whitelist;
+    private AntPathMatcher antPathMatcher;
+    private WhitelistMatcher whitelistMatcher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        whitelist = new String[whitelistSize];
+        for (int i = 0; i < whitelistSize; i++) {
+            whitelist[i] = switch (i % 4) {
+                case 0 -> "/public" + i + "/**";
+                case 1 -> "/docs" + i + "/*/index.html";
+                case 2 -> "/callbacks/" + i + "/{provider}";
+                default -> "/static/" + i + "/app.js";
+            };
+        }
+        whitelist[whitelistSize - 1] = "/actuator/health";
+        antPathMatcher = new AntPathMatcher();
+        whitelistMatcher = new WhitelistMatcher(whitelist);
+    }
+
+    @Benchmark
+    public boolean antPathMatcher() {
+        return Arrays.stream(whitelist).anyMatch(pattern -> antPathMatcher.match(pattern, requestPath));
+    }
+
+    @Benchmark
+    public boolean compiledMatcher() {
+        return whitelistMatcher.matches(requestPath);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WhitelistMatchBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.corems.common.security.filter;
+
+import com.corems.common.security.ServiceAuthentication;
+import com.corems.common.security.UserPrincipal;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MdcUserFilterTest {
+
+    private final MdcUserFilter filter = new MdcUserFilter();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_WithCachedAndUncachedAuthentication_LogsSameUserId() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UserPrincipal principal = new UserPrincipal(userId, "john@example.com", "John", "Doe", (UUID) null, List.of());
+
+        assertEquals(userId.toString(), userIdLoggedFor(ServiceAuthentication.of(principal, null)));
+        assertEquals(userId.toString(), userIdLoggedFor(ServiceAuthentication.fromVerifiedClaims(
+                Jwts.claims().subject(userId.toString()).build(), null)));
+    }
+
+    @Test
+    void doFilter_WithoutUserId_SkipsMdcEntry() throws Exception {
+        UserPrincipal system = new UserPrincipal((UUID) null, null, null, null, (UUID) null, List.of());
+
+        assertNull(userIdLoggedFor(ServiceAuthentication.of(system, null)));
+        assertNull(userIdLoggedFor(ServiceAuthentication.fromVerifiedClaims(Jwts.claims().build(), null)));
+        assertNull(userIdLoggedFor(ServiceAuthentication.fromVerifiedClaims(Jwts.claims().subject("service-a").build(), null)));
+    }
+
+    @Test
+    void doFilter_AfterChain_RemovesMdcEntry() throws Exception {
+        userIdLoggedFor(ServiceAuthentication.fromVerifiedClaims(Jwts.claims().subject(UUID.randomUUID().toString()).build(), null));
+
+        assertNull(MDC.get(MdcUserFilter.MDC_USER_ID));
+    }
+
+    private String userIdLoggedFor(Authentication authentication) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        AtomicReference<String> logged = new AtomicReference<>();
+        FilterChain chain = (request, response) -> logged.set(MDC.get(MdcUserFilter.MDC_USER_ID));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(), chain);
+        return logged.get();
+    }
+}
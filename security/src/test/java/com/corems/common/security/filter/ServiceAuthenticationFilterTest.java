@@ -0,0 +1,193 @@
+package com.corems.common.security.filter;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.security.ServiceAuthentication;
+import com.corems.common.security.UserPrincipal;
+import com.corems.common.security.config.CoremsJwtProperties;
+import com.corems.common.security.config.JwtAlgorithm;
+import com.corems.common.security.service.TokenProvider;
+import com.corems.common.security.service.TokenRevocationList;
+import com.corems.common.security.service.VerifiedTokenCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ServiceAuthenticationFilterTest {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tdGVzdGluZy1wdXJwb3Nlcy1vbmx5LXRoaXMtaXMtYS12ZXJ5LWxvbmctc2VjcmV0LWtleQ==";
+    private static final String[] WHITELIST = {"/actuator/health", "/public/**"};
+
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        CoremsJwtProperties jwtProperties = new CoremsJwtProperties();
+        jwtProperties.setAlgorithm(JwtAlgorithm.HS256);
+        jwtProperties.setSecretKey(SECRET);
+        tokenProvider = spy(new TokenProvider(jwtProperties));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_WithValidAccessToken_SetsAuthentication() throws Exception {
+        String userId = UUID.randomUUID().toString();
+        String token = tokenProvider.createAccessToken(userId, Map.of(
+                TokenProvider.CLAIM_EMAIL, "john@example.com",
+                TokenProvider.CLAIM_ROLES, List.of("USER_MS_USER")));
+        ServiceAuthenticationFilter filter = new ServiceAuthenticationFilter(tokenProvider, WHITELIST);
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("/api/users", token), new MockHttpServletResponse(), chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(chain.getRequest());
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        assertEquals(UUID.fromString(userId), principal.getUserId());
+        assertEquals("john@example.com", principal.getEmail());
+        assertEquals("USER_MS_USER", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void doFilter_WithCachedToken_VerifiesSignatureOnce() throws Exception {
+        String token = tokenProvider.createAccessToken(UUID.randomUUID().toString(), Map.of());
+        ServiceAuthenticationFilter filter = new ServiceAuthenticationFilter(tokenProvider, WHITELIST, new VerifiedTokenCache(100));
+
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.clearContext();
+            filter.doFilter(request("/api/users", token), new MockHttpServletResponse(), new MockFilterChain());
+            assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+
+        verify(tokenProvider, times(1)).parseToken(token);
+    }
+
+    @Test
+    void doFilter_WithRefreshToken_ThrowsUnauthorized() {
+        String token = tokenProvider.createRefreshToken(UUID.randomUUID().toString(), Map.of());
+        ServiceAuthenticationFilter filter = new ServiceAuthenticationFilter(tokenProvider, WHITELIST, new VerifiedTokenCache(100));
+
+        assertThrows(ServiceException.class,
+                () -> filter.doFilter(request("/api/users", token), new MockHttpServletResponse(), new MockFilterChain()));
+    }
+
+    @Test
+    void doFilter_WithoutToken_ThrowsUnauthorized() {
+        ServiceAuthenticationFilter filter = new ServiceAuthenticationFilter(tokenProvider, WHITELIST);
+
+        assertThrows(ServiceException.class,
+                () -> filter.doFilter(request("/api/users", null), new MockHttpServletResponse(), new MockFilterChain()));
+    }
+
+    @Test
+    void doFilter_WithWhitelistedPath_SkipsAuthentication() throws Exception {
+        ServiceAuthenticationFilter filter = new ServiceAuthenticationFilter(tokenProvider, WHITELIST);
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("/public/docs/index.html", null), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilter_WithTokenRevokedAfterCaching_ThrowsUnauthorized() throws Exception {
+        UUID tokenId = UUID.randomUUID();
+        String token = tokenProvider.createAccessToken(UUID.randomUUID().toString(),
+                Map.of(TokenProvider.CLAIM_TOKEN_ID, tokenId.toString()));
+        TokenRevocationList revocationList = new TokenRevocationList(100, 0.01);
+        ServiceAuthenticationFilter filter = new ServiceAuthenticationFilter(tokenProvider, WHITELIST,
+                new VerifiedTokenCache(100), revocationList);
+
+        filter.doFilter(request("/api/users", token), new MockHttpServletResponse(), new MockFilterChain());
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+
+        SecurityContextHolder.clearContext();
+        revocationList.revoke(tokenId, Instant.now().plusSeconds(600));
+
+        assertThrows(ServiceException.class,
+                () -> filter.doFilter(request("/api/users", token), new MockHttpServletResponse(), new MockFilterChain()));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilter_WithValidAccessToken_SetsLazyServiceAuthentication() throws Exception {
+        String userId = UUID.randomUUID().toString();
+        String token = tokenProvider.createAccessToken(userId, Map.of());
+        ServiceAuthenticationFilter filter = new ServiceAuthenticationFilter(tokenProvider, WHITELIST);
+
+        filter.doFilter(request("/api/users", token), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        ServiceAuthentication serviceAuthentication = assertInstanceOf(ServiceAuthentication.class, authentication);
+        assertTrue(serviceAuthentication.isAuthenticated());
+        assertEquals(userId, serviceAuthentication.getName());
+        assertSame(serviceAuthentication.getPrincipal(), serviceAuthentication.getPrincipal());
+        assertThrows(IllegalArgumentException.class, () -> serviceAuthentication.setAuthenticated(true));
+    }
+
+    @Test
+    void doFilter_ByDefault_SkipsWebDetails() throws Exception {
+        String token = tokenProvider.createAccessToken(UUID.randomUUID().toString(), Map.of());
+        ServiceAuthenticationFilter filter = new ServiceAuthenticationFilter(tokenProvider, WHITELIST);
+
+        filter.doFilter(request("/api/users", token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication().getDetails());
+    }
+
+    @Test
+    void doFilter_WithWebDetailsEnabled_SetsWebDetails() throws Exception {
+        String token = tokenProvider.createAccessToken(UUID.randomUUID().toString(), Map.of());
+        ServiceAuthenticationFilter filter = new ServiceAuthenticationFilter(tokenProvider, WHITELIST);
+        filter.setWebDetailsEnabled(true);
+
+        MockHttpServletRequest request = request("/api/users", token);
+        request.setRemoteAddr("10.0.0.7");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        WebAuthenticationDetails details = assertInstanceOf(WebAuthenticationDetails.class,
+                SecurityContextHolder.getContext().getAuthentication().getDetails());
+        assertEquals("10.0.0.7", details.getRemoteAddress());
+    }
+
+    @Test
+    void doFilter_WithRevokedTokenAndNoCache_ThrowsUnauthorized() {
+        UUID tokenId = UUID.randomUUID();
+        String token = tokenProvider.createAccessToken(UUID.randomUUID().toString(),
+                Map.of(TokenProvider.CLAIM_TOKEN_ID, tokenId.toString()));
+        TokenRevocationList revocationList = new TokenRevocationList(100, 0.01);
+        revocationList.revoke(tokenId, Instant.now().plusSeconds(600));
+        ServiceAuthenticationFilter filter = new ServiceAuthenticationFilter(tokenProvider, WHITELIST,
+                new VerifiedTokenCache(0), revocationList);
+
+        assertThrows(ServiceException.class,
+                () -> filter.doFilter(request("/api/users", token), new MockHttpServletResponse(), new MockFilterChain()));
+    }
+
+    private static MockHttpServletRequest request(String path, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (token != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return request;
+    }
+}
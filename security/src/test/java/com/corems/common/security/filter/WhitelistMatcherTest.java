@@ -0,0 +1,72 @@
+package com.corems.common.security.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WhitelistMatcherTest {
+
+    private static final String[] WHITELIST = {
+            "/actuator/health",
+            "/public/**",
+            "/api/*/docs",
+            "/files/{id}/preview",
+            "/static/*.css",
+            "/api/**/open",
+            " ",
+    };
+
+    @Test
+    void matches_WithExactPath_ReturnsTrue() {
+        WhitelistMatcher matcher = new WhitelistMatcher(WHITELIST);
+
+        assertTrue(matcher.matches("/actuator/health"));
+        assertFalse(matcher.matches("/actuator/health/liveness"));
+        assertFalse(matcher.matches("/actuator"));
+    }
+
+    @Test
+    void matches_WithWildcardPatterns_ReturnsTrue() {
+        WhitelistMatcher matcher = new WhitelistMatcher(WHITELIST);
+
+        assertTrue(matcher.matches("/public"));
+        assertTrue(matcher.matches("/public/a/b/c"));
+        assertTrue(matcher.matches("/api/users/docs"));
+        assertTrue(matcher.matches("/files/42/preview"));
+        assertTrue(matcher.matches("/static/site.css"));
+        assertFalse(matcher.matches("/api/users/list"));
+        assertFalse(matcher.matches("/publicity"));
+    }
+
+    @Test
+    void matches_WithMidPathDoubleWildcard_FallsBackToAntMatching() {
+        WhitelistMatcher matcher = new WhitelistMatcher(WHITELIST);
+
+        assertTrue(matcher.matches("/api/v1/users/open"));
+        assertFalse(matcher.matches("/api/v1/users/closed"));
+    }
+
+    @Test
+    void matches_AgreesWithAntPathMatcher() {
+        WhitelistMatcher matcher = new WhitelistMatcher(WHITELIST);
+        AntPathMatcher ant = new AntPathMatcher();
+        String[] paths = {"/actuator/health", "/public/x", "/api/a/docs", "/api/a/b/docs", "/files/1/preview",
+                "/static/a.css", "/static/a.js", "/api/x/y/open", "/other", "/"};
+
+        for (String path : paths) {
+            boolean expected = false;
+            for (String pattern : WHITELIST) {
+                expected |= !pattern.isBlank() && ant.match(pattern, path);
+            }
+            assertEquals(expected, matcher.matches(path), path);
+        }
+    }
+
+    @Test
+    void matches_WithEmptyOrNullWhitelist_ReturnsFalse() {
+        assertFalse(new WhitelistMatcher(new String[0]).matches("/anything"));
+        assertFalse(new WhitelistMatcher(null).matches("/anything"));
+        assertFalse(new WhitelistMatcher(WHITELIST).matches(null));
+    }
+}
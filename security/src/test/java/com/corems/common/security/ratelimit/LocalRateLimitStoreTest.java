@@ -0,0 +1,70 @@
+package com.corems.common.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalRateLimitStoreTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tokenBucket_AllowsBurstThenRefillsAtRate() {
+        TokenBucket bucket = new TokenBucket(new RateLimit(3, 2), 0L);
+
+        assertEquals(0L, bucket.tryConsume(0L));
+        assertEquals(0L, bucket.tryConsume(0L));
+        assertEquals(0L, bucket.tryConsume(0L));
+        assertEquals(SECOND / 2, bucket.tryConsume(0L));
+
+        assertEquals(0L, bucket.tryConsume(SECOND / 2));
+        assertTrue(bucket.tryConsume(SECOND / 2) > 0);
+        assertEquals(0L, bucket.tryConsume(10 * SECOND));
+    }
+
+    @Test
+    void tokenBucket_UnderContention_NeverExceedsCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(new RateLimit(100, 0.001), 0L);
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (bucket.tryConsume(0L) == 0L) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        assertEquals(100, accepted.get());
+    }
+
+    @Test
+    void tryConsume_KeepsSeparateBucketsPerKey() {
+        LocalRateLimitStore store = new LocalRateLimitStore(100, Duration.ofMinutes(1));
+        RateLimit limit = new RateLimit(1, 0.01);
+
+        assertEquals(0L, store.tryConsume("a", limit));
+        assertTrue(store.tryConsume("a", limit) > 0);
+        assertEquals(0L, store.tryConsume("b", limit));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void rateLimit_WithInvalidValues_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(1, 0));
+    }
+}
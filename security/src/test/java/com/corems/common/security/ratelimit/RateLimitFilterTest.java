@@ -0,0 +1,139 @@
+package com.corems.common.security.ratelimit;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.security.CoreMsRoles;
+import com.corems.common.security.UserPrincipal;
+import com.corems.common.security.config.RateLimitProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private RateLimitProperties properties;
+    private LocalRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setCapacity(2);
+        properties.setRequestsPerSecond(0.01);
+        store = new LocalRateLimitStore(1000, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_OverDefaultLimit_ThrowsTooManyRequests() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(properties, store);
+        authenticate(UUID.randomUUID(), CoreMsRoles.USER_MS_USER);
+
+        filter.doFilter(request("GET", "/api/users"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("GET", "/api/users"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ServiceException ex = assertThrows(ServiceException.class,
+                () -> filter.doFilter(request("GET", "/api/users"), response, new MockFilterChain()));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getHttpStatusCode());
+        assertNotNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void doFilter_KeyedByUser_LimitsEachUserSeparately() throws Exception {
+        properties.setCapacity(1);
+        RateLimitFilter filter = new RateLimitFilter(properties, store);
+
+        authenticate(UUID.randomUUID(), CoreMsRoles.USER_MS_USER);
+        filter.doFilter(request("GET", "/api/users"), new MockHttpServletResponse(), new MockFilterChain());
+        authenticate(UUID.randomUUID(), CoreMsRoles.USER_MS_USER);
+        filter.doFilter(request("GET", "/api/users"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThrows(ServiceException.class,
+                () -> filter.doFilter(request("GET", "/api/users"), new MockHttpServletResponse(), new MockFilterChain()));
+    }
+
+    @Test
+    void doFilter_WithRouteLimit_UsesRouteBucketAndKey() throws Exception {
+        RateLimitProperties.Route search = new RateLimitProperties.Route();
+        search.setPattern("/api/search/**");
+        search.setMethod("post");
+        search.setCapacity(1L);
+        search.setKeyBy(RateLimitProperties.KeyBy.IP);
+        properties.getRoutes().add(search);
+        RateLimitFilter filter = new RateLimitFilter(properties, store);
+
+        authenticate(UUID.randomUUID(), CoreMsRoles.USER_MS_USER);
+        filter.doFilter(request("POST", "/api/search/users"), new MockHttpServletResponse(), new MockFilterChain());
+        authenticate(UUID.randomUUID(), CoreMsRoles.USER_MS_USER);
+        assertThrows(ServiceException.class,
+                () -> filter.doFilter(request("POST", "/api/search/users"), new MockHttpServletResponse(), new MockFilterChain()));
+
+        // GET does not match the route and uses the default bucket
+        filter.doFilter(request("GET", "/api/search/users"), new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    @Test
+    void doFilter_WithUnlimitedRouteOrExemptRole_DoesNotLimit() throws Exception {
+        RateLimitProperties.Route health = new RateLimitProperties.Route();
+        health.setPattern("/actuator/**");
+        health.setUnlimited(true);
+        properties.getRoutes().add(health);
+        properties.setCapacity(1);
+        RateLimitFilter filter = new RateLimitFilter(properties, store);
+
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(request("GET", "/actuator/health"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        authenticate(UUID.randomUUID(), CoreMsRoles.SYSTEM);
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(request("GET", "/api/users"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+    }
+
+    @Test
+    void doFilter_Anonymous_KeysByClientIp() throws Exception {
+        properties.setCapacity(1);
+        RateLimitFilter filter = new RateLimitFilter(properties, store);
+
+        MockHttpServletRequest first = request("GET", "/public/docs");
+        first.setRemoteAddr("10.0.0.1");
+        filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletRequest other = request("GET", "/public/docs");
+        other.setRemoteAddr("10.0.0.2");
+        filter.doFilter(other, new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletRequest again = request("GET", "/public/docs");
+        again.setRemoteAddr("10.0.0.1");
+        assertThrows(ServiceException.class,
+                () -> filter.doFilter(again, new MockHttpServletResponse(), new MockFilterChain()));
+    }
+
+    private static void authenticate(UUID userId, CoreMsRoles role) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role.name()));
+        UserPrincipal principal = new UserPrincipal(userId, "john@example.com", "John", "Doe", (UUID) null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, authorities));
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        return new MockHttpServletRequest(method, path);
+    }
+}
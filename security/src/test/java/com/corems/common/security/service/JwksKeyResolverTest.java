@@ -0,0 +1,155 @@
+package com.corems.common.security.service;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.security.config.CoremsJwtProperties;
+import com.corems.common.security.config.JwtAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwksKeyResolverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JwksKeyResolver resolver;
+
+    @AfterEach
+    void tearDown() {
+        if (resolver != null) {
+            resolver.close();
+        }
+    }
+
+    @Test
+    void parseToken_WithKeyFromJwks_VerifiesToken() throws Exception {
+        TokenProvider issuer = issuer("key-1", ecKeyPair(), Map.of());
+        Path jwks = writeJwks(issuer);
+        TokenProvider verifier = verifier(jwks, Duration.ofSeconds(30));
+
+        String token = issuer.createAccessToken("test-user-id", null);
+
+        assertEquals(Set.of("key-1"), resolver.getKeyIds());
+        assertEquals("key-1", verifier.parseToken(token).getHeader().getKeyId());
+        assertEquals("test-user-id", verifier.getAllClaims(token).getSubject());
+    }
+
+    @Test
+    void parseToken_WithRotatedKey_RejectsThenRefreshesInBackground() throws Exception {
+        KeyPair oldKeys = ecKeyPair();
+        TokenProvider oldIssuer = issuer("key-1", oldKeys, Map.of());
+        Path jwks = writeJwks(oldIssuer);
+        TokenProvider verifier = verifier(jwks, Duration.ZERO);
+        String oldToken = oldIssuer.createAccessToken("test-user-id", null);
+
+        TokenProvider newIssuer = issuer("key-2", ecKeyPair(), Map.of("key-1", pem("PUBLIC KEY", oldKeys.getPublic().getEncoded())));
+        writeJwks(newIssuer);
+        String newToken = newIssuer.createAccessToken("test-user-id", null);
+
+        assertThrows(ServiceException.class, () -> verifier.parseToken(newToken));
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!resolver.getKeyIds().contains("key-2") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(Set.of("key-1", "key-2"), resolver.getKeyIds());
+        assertEquals("test-user-id", verifier.getAllClaims(newToken).getSubject());
+        assertEquals("test-user-id", verifier.getAllClaims(oldToken).getSubject());
+    }
+
+    @Test
+    void refresh_WithBrokenDocument_KeepsPreviousKeys() throws Exception {
+        TokenProvider issuer = issuer("key-1", ecKeyPair(), Map.of());
+        Path jwks = writeJwks(issuer);
+        TokenProvider verifier = verifier(jwks, Duration.ofSeconds(30));
+        String token = issuer.createAccessToken("test-user-id", null);
+
+        Files.writeString(jwks, "not json");
+
+        assertFalse(resolver.refresh());
+        assertEquals(Set.of("key-1"), resolver.getKeyIds());
+        assertEquals("test-user-id", verifier.getAllClaims(token).getSubject());
+    }
+
+    @Test
+    void start_WithMissingDocument_RejectsTokensUntilLoaded() throws Exception {
+        TokenProvider issuer = issuer("key-1", ecKeyPair(), Map.of());
+        Path jwks = tempDir.resolve("missing.json");
+        TokenProvider verifier = verifier(jwks, Duration.ofSeconds(30));
+        String token = issuer.createAccessToken("test-user-id", null);
+
+        assertTrue(resolver.getKeyIds().isEmpty());
+        assertThrows(ServiceException.class, () -> verifier.parseToken(token));
+
+        Files.writeString(jwks, toJson(issuer.getJwkSet()));
+        assertTrue(resolver.refresh());
+        assertEquals("test-user-id", verifier.getAllClaims(token).getSubject());
+    }
+
+    @Test
+    void constructor_WithHmacAlgorithm_ThrowsException() {
+        CoremsJwtProperties properties = new CoremsJwtProperties();
+        properties.setAlgorithm(JwtAlgorithm.HS256);
+        properties.setSecretKey(Base64.getEncoder().encodeToString(new byte[32]));
+        resolver = new JwksKeyResolver(tempDir.resolve("jwks.json").toUri(), Duration.ofMinutes(5), Duration.ZERO);
+
+        assertThrows(IllegalStateException.class, () -> new TokenProvider(properties, resolver));
+    }
+
+    private TokenProvider verifier(Path jwks, Duration minRefreshInterval) {
+        resolver = new JwksKeyResolver(jwks.toUri(), Duration.ofMinutes(5), minRefreshInterval);
+        resolver.start();
+        CoremsJwtProperties properties = new CoremsJwtProperties();
+        properties.setAlgorithm(JwtAlgorithm.ES256);
+        return new TokenProvider(properties, resolver);
+    }
+
+    private Path writeJwks(TokenProvider issuer) throws Exception {
+        Path jwks = tempDir.resolve("jwks.json");
+        Files.writeString(jwks, toJson(issuer.getJwkSet()));
+        return jwks;
+    }
+
+    private static TokenProvider issuer(String keyId, KeyPair keyPair, Map<String, String> previousKeys) {
+        CoremsJwtProperties properties = new CoremsJwtProperties();
+        properties.setAlgorithm(JwtAlgorithm.ES256);
+        properties.setKeyId(keyId);
+        properties.setPrivateKey(pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        properties.setPublicKey(pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        properties.getPreviousPublicKeys().putAll(previousKeys);
+        return new TokenProvider(properties);
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n" + Base64.getMimeEncoder().encodeToString(der) + "\n-----END " + type + "-----\n";
+    }
+
+    // EC public JWK members are all strings, so a flat writer is enough here
+    private static String toJson(Map<String, Object> jwkSet) {
+        return ((List<?>) jwkSet.get("keys")).stream()
+                .map(jwk -> ((Map<?, ?>) jwk).entrySet().stream()
+                        .map(e -> "\"" + e.getKey() + "\":\"" + e.getValue() + "\"")
+                        .collect(Collectors.joining(",", "{", "}")))
+                .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+    }
+}
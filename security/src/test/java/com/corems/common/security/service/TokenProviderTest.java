@@ -12,6 +12,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javax.crypto.SecretKey;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -227,4 +231,140 @@ class TokenProviderTest {
         String keyId = tokenProvider.getKeyId();
         assertEquals("test-key-1", keyId);
     }
+
+    @Test
+    void createAccessToken_WithES256_SignsAndVerifies() throws Exception {
+        TokenProvider esProvider = new TokenProvider(ecProperties(JwtAlgorithm.ES256, ecKeyPair("secp256r1")));
+
+        String token = esProvider.createAccessToken("test-user-id", Map.of(TokenProvider.CLAIM_FIRST_NAME, "John"));
+        Jws<Claims> jws = esProvider.parseToken(token);
+
+        assertEquals("ES256", jws.getHeader().getAlgorithm());
+        assertEquals("test-user-id", jws.getPayload().getSubject());
+        assertEquals("John", jws.getPayload().get(TokenProvider.CLAIM_FIRST_NAME));
+    }
+
+    @Test
+    void createAccessToken_WithES384AndES512_UsesMatchingAlgorithm() throws Exception {
+        TokenProvider es384 = new TokenProvider(ecProperties(JwtAlgorithm.ES384, ecKeyPair("secp384r1")));
+        TokenProvider es512 = new TokenProvider(ecProperties(JwtAlgorithm.ES512, ecKeyPair("secp521r1")));
+
+        assertEquals("ES384", es384.parseToken(es384.createAccessToken("user", null)).getHeader().getAlgorithm());
+        assertEquals("ES512", es512.parseToken(es512.createAccessToken("user", null)).getHeader().getAlgorithm());
+    }
+
+    @Test
+    void createAccessToken_WithES256_HasSmallerSignatureThanRS256() throws Exception {
+        KeyPairGenerator rsaGenerator = KeyPairGenerator.getInstance("RSA");
+        rsaGenerator.initialize(2048);
+        TokenProvider rsProvider = new TokenProvider(ecProperties(JwtAlgorithm.RS256, rsaGenerator.generateKeyPair()));
+        TokenProvider esProvider = new TokenProvider(ecProperties(JwtAlgorithm.ES256, ecKeyPair("secp256r1")));
+        Map<String, Object> claims = Map.of(TokenProvider.CLAIM_ROLES, List.of("USER_MS_USER"));
+
+        String rsToken = rsProvider.createAccessToken("test-user-id", claims);
+        String esToken = esProvider.createAccessToken("test-user-id", claims);
+
+        // base64url of a 256-byte RSA-2048 signature vs a 64-byte P-256 signature
+        assertEquals(342, rsToken.substring(rsToken.lastIndexOf('.') + 1).length());
+        assertEquals(86, esToken.substring(esToken.lastIndexOf('.') + 1).length());
+        assertTrue(esToken.length() < rsToken.length());
+    }
+
+    @Test
+    void parseToken_WithES256PublicKeyOnly_VerifiesButCannotSign() throws Exception {
+        KeyPair keyPair = ecKeyPair("secp256r1");
+        TokenProvider issuer = new TokenProvider(ecProperties(JwtAlgorithm.ES256, keyPair));
+        CoremsJwtProperties verifierProperties = ecProperties(JwtAlgorithm.ES256, keyPair);
+        verifierProperties.setPrivateKey(null);
+        TokenProvider verifier = new TokenProvider(verifierProperties);
+
+        String token = issuer.createAccessToken("test-user-id", null);
+
+        assertEquals("test-user-id", verifier.getAllClaims(token).getSubject());
+        assertNotNull(verifier.getPublicKey());
+        assertThrows(IllegalStateException.class, () -> verifier.createAccessToken("test-user-id", null));
+    }
+
+    @Test
+    void parseToken_WithES256TokenFromOtherKey_ThrowsAuthServiceException() throws Exception {
+        TokenProvider issuer = new TokenProvider(ecProperties(JwtAlgorithm.ES256, ecKeyPair("secp256r1")));
+        TokenProvider verifier = new TokenProvider(ecProperties(JwtAlgorithm.ES256, ecKeyPair("secp256r1")));
+
+        String token = issuer.createAccessToken("test-user-id", null);
+
+        assertThrows(ServiceException.class, () -> verifier.parseToken(token));
+    }
+
+    @Test
+    void constructor_WithCurveNotMatchingAlgorithm_ThrowsException() throws Exception {
+        CoremsJwtProperties properties = ecProperties(JwtAlgorithm.ES512, ecKeyPair("secp256r1"));
+
+        assertThrows(IllegalStateException.class, () -> new TokenProvider(properties));
+    }
+
+    @Test
+    void constructor_WithESAndNoPublicKey_ThrowsException() throws Exception {
+        CoremsJwtProperties properties = ecProperties(JwtAlgorithm.ES256, ecKeyPair("secp256r1"));
+        properties.setPublicKey(null);
+
+        assertThrows(IllegalStateException.class, () -> new TokenProvider(properties));
+    }
+
+    @Test
+    void parseToken_WithPreviousPublicKey_VerifiesTokenSignedBeforeRotation() throws Exception {
+        KeyPair oldKeys = ecKeyPair("secp256r1");
+        CoremsJwtProperties oldProperties = ecProperties(JwtAlgorithm.ES256, oldKeys);
+        oldProperties.setKeyId("key-1");
+        String oldToken = new TokenProvider(oldProperties).createAccessToken("test-user-id", null);
+
+        CoremsJwtProperties newProperties = ecProperties(JwtAlgorithm.ES256, ecKeyPair("secp256r1"));
+        newProperties.setKeyId("key-2");
+        newProperties.getPreviousPublicKeys().put("key-1", oldProperties.getPublicKey());
+        TokenProvider rotated = new TokenProvider(newProperties);
+
+        assertEquals("test-user-id", rotated.getAllClaims(oldToken).getSubject());
+        String newToken = rotated.createAccessToken("test-user-id", null);
+        assertEquals("key-2", rotated.parseToken(newToken).getHeader().getKeyId());
+    }
+
+    @Test
+    void getJwkSet_WithRotatedKeys_PublishesCurrentKeyFirst() throws Exception {
+        CoremsJwtProperties properties = ecProperties(JwtAlgorithm.ES256, ecKeyPair("secp256r1"));
+        properties.setKeyId("key-2");
+        properties.getPreviousPublicKeys().put("key-1", ecProperties(JwtAlgorithm.ES256, ecKeyPair("secp256r1")).getPublicKey());
+
+        List<?> keys = (List<?>) new TokenProvider(properties).getJwkSet().get("keys");
+
+        assertEquals(2, keys.size());
+        assertEquals("key-2", ((Map<?, ?>) keys.get(0)).get("kid"));
+        assertEquals("key-1", ((Map<?, ?>) keys.get(1)).get("kid"));
+        assertEquals("ES256", ((Map<?, ?>) keys.get(0)).get("alg"));
+        assertEquals("EC", ((Map<?, ?>) keys.get(0)).get("kty"));
+        assertNull(((Map<?, ?>) keys.get(0)).get("d"));
+    }
+
+    @Test
+    void getJwkSet_WithHmac_IsEmpty() {
+        assertEquals(List.of(), tokenProvider.getJwkSet().get("keys"));
+    }
+
+    private static KeyPair ecKeyPair(String curve) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec(curve));
+        return generator.generateKeyPair();
+    }
+
+    private static CoremsJwtProperties ecProperties(JwtAlgorithm algorithm, KeyPair keyPair) {
+        CoremsJwtProperties properties = new CoremsJwtProperties();
+        properties.setAlgorithm(algorithm);
+        properties.setPrivateKey(pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        properties.setPublicKey(pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        properties.setIssuer("http://localhost:3000");
+        return properties;
+    }
+
+    private static String pem(String type, byte[] der) {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der);
+        return "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+    }
 }
@@ -0,0 +1,82 @@
+package com.corems.common.security.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    @Test
+    void isRevoked_AfterRevoke_ReturnsTrue() {
+        TokenRevocationList list = new TokenRevocationList(100, 0.01);
+        UUID revoked = UUID.randomUUID();
+
+        list.revoke(revoked, Instant.now().plusSeconds(60));
+
+        assertTrue(list.isRevoked(revoked));
+        assertFalse(list.isRevoked(UUID.randomUUID()));
+        assertFalse(list.isRevoked(null));
+    }
+
+    @Test
+    void isRevoked_AfterTokenExpiry_ReturnsFalseAndDropsEntry() throws InterruptedException {
+        TokenRevocationList list = new TokenRevocationList(100, 0.01);
+        UUID revoked = UUID.randomUUID();
+
+        list.revoke(new RevokedToken(revoked, Instant.now().plusMillis(50)));
+        Thread.sleep(100);
+
+        assertFalse(list.isRevoked(revoked));
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void revoke_WithPastExpiry_IsIgnored() {
+        TokenRevocationList list = new TokenRevocationList(100, 0.01);
+
+        list.revoke(UUID.randomUUID(), Instant.now().minusSeconds(1));
+
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void revoke_BeyondExpectedTokens_RebuildsFilterAndKeepsLiveEntries() {
+        TokenRevocationList list = new TokenRevocationList(10, 0.01);
+        UUID[] ids = new UUID[25];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+            list.revoke(ids[i], Instant.now().plusSeconds(60));
+        }
+
+        for (UUID id : ids) {
+            assertTrue(list.isRevoked(id));
+        }
+        assertEquals(25, list.size());
+    }
+
+    @Test
+    void bloomFilter_FalsePositiveRate_StaysNearConfiguredRate() {
+        TokenRevocationList.BloomFilter filter = new TokenRevocationList.BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void constructor_WithInvalidSizing_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenRevocationList(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new TokenRevocationList(10, 1.0));
+    }
+}
@@ -0,0 +1,98 @@
+package com.corems.common.security.service;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.security.config.CoremsJwtProperties;
+import com.corems.common.security.config.JwtAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnverifiedTokenClaimsTest {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tdGVzdGluZy1wdXJwb3Nlcy1vbmx5LXRoaXMtaXMtYS12ZXJ5LWxvbmctc2VjcmV0LWtleQ==";
+
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        CoremsJwtProperties jwtProperties = new CoremsJwtProperties();
+        jwtProperties.setAlgorithm(JwtAlgorithm.HS256);
+        jwtProperties.setSecretKey(SECRET);
+        tokenProvider = new TokenProvider(jwtProperties);
+    }
+
+    @Test
+    void decode_WithIssuedToken_ReadsRequestedClaims() {
+        String token = tokenProvider.createAccessToken("user-1", Map.of(
+                TokenProvider.CLAIM_EMAIL, "john@example.com",
+                TokenProvider.CLAIM_ROLES, List.of("USER_MS_USER", "DOCUMENT_MS_USER")));
+
+        UnverifiedTokenClaims claims = UnverifiedTokenClaims.decode(token);
+
+        assertEquals(TokenProvider.TOKEN_TYPE_ACCESS, claims.getType());
+        assertEquals("user-1", claims.getSubject());
+        assertEquals("john@example.com", claims.getClaim(TokenProvider.CLAIM_EMAIL));
+        assertEquals(List.of("USER_MS_USER", "DOCUMENT_MS_USER"), claims.getRoles());
+        assertEquals(tokenProvider.getAllClaims(token).getExpiration().toInstant(), claims.getExpiration());
+        assertNull(claims.getClaim("missing"));
+        assertEquals(List.of(), claims.getClaimAsList("missing"));
+    }
+
+    @Test
+    void hasType_ChecksHeaderOnly() {
+        String access = tokenProvider.createAccessToken("user-1", null);
+        String refresh = tokenProvider.createRefreshToken("user-1", null);
+
+        assertTrue(UnverifiedTokenClaims.hasType(access, TokenProvider.TOKEN_TYPE_ACCESS));
+        assertFalse(UnverifiedTokenClaims.hasType(refresh, TokenProvider.TOKEN_TYPE_ACCESS));
+        assertFalse(UnverifiedTokenClaims.hasType("not-a-token", TokenProvider.TOKEN_TYPE_ACCESS));
+        assertFalse(UnverifiedTokenClaims.hasType(null, TokenProvider.TOKEN_TYPE_ACCESS));
+        assertFalse(UnverifiedTokenClaims.hasType("a.b.c", TokenProvider.TOKEN_TYPE_ACCESS));
+    }
+
+    @Test
+    void decode_WithTamperedSignature_StillDecodes() {
+        String token = tokenProvider.createAccessToken("user-1", null);
+        String tampered = token.substring(0, token.lastIndexOf('.') + 1) + "invalid";
+
+        assertEquals("user-1", UnverifiedTokenClaims.decode(tampered).getSubject());
+        assertThrows(ServiceException.class, () -> tokenProvider.parseToken(tampered));
+    }
+
+    @Test
+    void decode_WithEscapesNestingAndWhitespace_ReadsValues() {
+        String token = token("{\"typ\":\"access_token\"}",
+                "{ \"nested\" : {\"sub\": \"wrong\", \"a\": [1, {\"b\": \"]\"}]},\n"
+                        + "  \"sub\" : \"us\\\"er\\u00e9\\n\", \"n\": 42, \"flag\": true, \"none\": null,"
+                        + " \"roles\": [\"A\", 1, \"B\\/C\"] }");
+
+        UnverifiedTokenClaims claims = UnverifiedTokenClaims.decode(token);
+
+        assertEquals("us\"eré\n", claims.getSubject());
+        assertEquals("42", claims.getClaim("n"));
+        assertEquals("true", claims.getClaim("flag"));
+        assertNull(claims.getClaim("none"));
+        assertNull(claims.getClaim("nested"));
+        assertEquals(List.of("A", "B/C"), claims.getRoles());
+    }
+
+    @Test
+    void decode_WithMalformedToken_ThrowsUnauthorized() {
+        assertThrows(ServiceException.class, () -> UnverifiedTokenClaims.decode("only.two"));
+        assertThrows(ServiceException.class, () -> UnverifiedTokenClaims.decode("a*b.c.d"));
+        assertThrows(ServiceException.class, () -> UnverifiedTokenClaims.decode(token("{}", "{\"sub\":")).getSubject());
+        assertThrows(ServiceException.class, () -> UnverifiedTokenClaims.decode(token("{}", "[]")).getSubject());
+    }
+
+    private static String token(String header, String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".sig";
+    }
+}
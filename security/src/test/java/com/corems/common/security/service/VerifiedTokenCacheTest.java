@@ -0,0 +1,92 @@
+package com.corems.common.security.service;
+
+import com.corems.common.security.UserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), "john@example.com", "John", "Doe",
+            (UUID) null, List.of(new SimpleGrantedAuthority("USER_MS_USER")));
+
+    @Test
+    void get_AfterPut_ReturnsEqualPrincipal() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        cache.put("token-a", principal, Instant.now().plusSeconds(60));
+
+        assertEquals(principal, cache.get("token-a"));
+        assertNull(cache.get("token-b"));
+    }
+
+    @Test
+    void get_AfterCallerMutatesPrincipal_ReturnsUnchangedCopy() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token-a", principal, Instant.now().plusSeconds(60));
+
+        UserPrincipal first = cache.get("token-a");
+        first.setUserId(UUID.randomUUID().toString());
+        first.setPassword("changed");
+        principal.setTokenId(UUID.randomUUID().toString());
+
+        UserPrincipal second = cache.get("token-a");
+        assertNotSame(first, second);
+        assertNotEquals(first.getUserId(), second.getUserId());
+        assertNull(second.getPassword());
+        assertNull(second.getTokenId());
+    }
+
+    @Test
+    void get_AfterTokenExpiry_ReturnsNull() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        cache.put("token-a", principal, Instant.now().plusMillis(50));
+        Thread.sleep(100);
+
+        assertNull(cache.get("token-a"));
+    }
+
+    @Test
+    void put_WithPastExpiry_DoesNotCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        cache.put("token-a", principal, Instant.now().minusSeconds(1));
+
+        assertNull(cache.get("token-a"));
+    }
+
+    @Test
+    void put_BeyondMaximumSize_EvictsEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(5);
+
+        for (int i = 0; i < 50; i++) {
+            cache.put("token-" + i, principal, Instant.now().plusSeconds(60));
+        }
+
+        assertTrue(cache.size() <= 5);
+    }
+
+    @Test
+    void constructor_WithZeroSize_DisablesCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+
+        cache.put("token-a", principal, Instant.now().plusSeconds(60));
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get("token-a"));
+    }
+
+    @Test
+    void key_DoesNotContainRawToken() {
+        String key = VerifiedTokenCache.key("header.payload.signature");
+
+        assertFalse(key.contains("payload"));
+        assertEquals(VerifiedTokenCache.key("header.payload.signature"), key);
+    }
+}
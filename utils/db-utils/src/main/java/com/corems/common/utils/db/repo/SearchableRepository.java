@@ -4,11 +4,22 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import com.corems.common.utils.db.spec.CollectionJoinStrategy;
+import com.corems.common.utils.db.spec.FullTextSearch;
+import com.corems.common.utils.db.spec.SearchMode;
+import com.corems.common.utils.db.utils.CountMode;
+import com.corems.common.utils.db.utils.CursorPage;
 import com.corems.common.utils.db.utils.QueryParams;
 import com.corems.common.utils.db.utils.PaginatedQueryExecutor;
 
+import jakarta.persistence.EntityManager;
+
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Metadata-driven repository for search, filter, and sort operations.
@@ -31,10 +42,33 @@ public interface SearchableRepository<T, ID> extends JpaRepository<T, ID>, JpaSp
         return List.of();
     }
 
+    /**
+     * Match mode per search field (keys as in {@link #getSearchFields()}); unlisted fields use
+     * {@link SearchMode#CONTAINS}. A search term ending in {@code *} uses {@link SearchMode#PREFIX}
+     * on every field.
+     *
+     * @return map of search field to match mode
+     */
+    default Map<String, SearchMode> getSearchModes() {
+        return Map.of();
+    }
+
+    /**
+     * Strategy for {@link SearchMode#FULL_TEXT} search fields; defaults to a LIKE contains match.
+     * Use {@code new PostgresFullTextSearch("simple")} or {@code PostgresTrigramSearch.INSTANCE}
+     * on PostgreSQL to have the search served by a GIN index.
+     *
+     * @return full-text search strategy
+     */
+    default FullTextSearch getFullTextSearch() {
+        return FullTextSearch.LIKE;
+    }
+
     /**
      * Fields that can be filtered.
      * Supports nested paths for collections (e.g., "categories.name").
-     * Operators: eq, ne, gt, gte, lt, lte, like, contains, in
+     * Operators: eq, ne, gt, gte, lt, lte, like, contains, in, between, isnull, startswith.
+     * Raw filters starting with ( or ! are boolean expressions, see {@code FilterUtil.parseExpression}.
      * Types: String, Number, Boolean, Enum, Date/Time, UUID, Collections
      *
      * @return list of filterable field names
@@ -75,8 +109,66 @@ public interface SearchableRepository<T, ID> extends JpaRepository<T, ID>, JpaSp
         return List.of();
     }
 
+    /**
+     * Unique, non-null entity attribute appended to the sort as the keyset pagination tiebreaker.
+     *
+     * @return id field name
+     */
+    default String getIdField() {
+        return "id";
+    }
+
+    /**
+     * How long total counts are cached per search and filter signature. Zero disables caching.
+     * Worth enabling for large tables whose totals may lag behind writes by this long.
+     *
+     * @return count cache TTL
+     */
+    default Duration getCountCacheTtl() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Row estimate from database statistics, used by {@link CountMode#ESTIMATED} for unfiltered
+     * queries. Re-declare it with a native {@code @Query}, e.g. on PostgreSQL
+     * {@code SELECT reltuples::bigint FROM pg_class WHERE oid = 'products'::regclass}.
+     *
+     * @return estimated row count, or {@code null} to fall back to an exact count
+     */
+    default Long estimateRowCount() {
+        return null;
+    }
+
+    /**
+     * How search and filter predicates on {@link #getCollectionFields()} are expressed.
+     * {@link CollectionJoinStrategy#EXISTS} (default) never multiplies rows;
+     * {@link CollectionJoinStrategy#JOIN} shares one LEFT JOIN per collection within a query.
+     *
+     * @return collection join strategy
+     */
+    default CollectionJoinStrategy getCollectionJoinStrategy() {
+        return CollectionJoinStrategy.EXISTS;
+    }
+
+    /**
+     * Associations loaded with every page, as entity graph attribute paths (e.g. "categories",
+     * "author.roles"). When set, a page is read in two queries: the paginated query on the entity
+     * alone, then one {@code id IN (...)} query that fetches these associations for the page's
+     * rows, keeping the page order. This avoids N+1 selects per row as well as Hibernate's
+     * in-memory pagination of fetch joins (HHH90003004).
+     * <p>
+     * Hibernate fetches at most one {@code List} (bag) association per query; prefer {@code Set}
+     * for collections listed here.
+     *
+     * @return association paths to fetch, empty to disable
+     */
+    default List<String> getFetchGraph() {
+        return List.of();
+    }
+
     /**
      * Executes metadata-driven query with search, filter, sort, and pagination.
+     * {@link CountMode#NONE} is rejected here; use {@link #findSliceByQueryParams(QueryParams)}.
      *
      * @param params query parameters
      * @return page of matching entities
@@ -84,4 +176,78 @@ public interface SearchableRepository<T, ID> extends JpaRepository<T, ID>, JpaSp
     default Page<T> findAllByQueryParams(QueryParams params) {
         return PaginatedQueryExecutor.execute(this, params);
     }
-}
+
+    /**
+     * Executes the same query selecting only the properties of {@code projection}: a closed
+     * interface with getters for entity properties, or a DTO/record whose constructor parameters
+     * are named after them. Results are read-only values that the persistence context does not
+     * track; {@link #getFetchGraph()} is not applied.
+     *
+     * @param params query parameters
+     * @param projection interface or DTO type to select
+     * @return page of projections
+     */
+    default <P> Page<P> findAllByQueryParams(QueryParams params, Class<P> projection) {
+        return PaginatedQueryExecutor.execute(this, params, projection);
+    }
+
+    /**
+     * Executes metadata-driven query honoring {@link QueryParams#countMode()}.
+     *
+     * @param params query parameters
+     * @return a {@link Page} for EXACT and ESTIMATED counts, a {@link Slice} without total for NONE
+     */
+    default Slice<T> findSliceByQueryParams(QueryParams params) {
+        return PaginatedQueryExecutor.executeSlice(this, params);
+    }
+
+    /**
+     * Streams every entity matching the search and filters from one query, in the requested sort,
+     * for exports. Pagination parameters are ignored. Consume it in a read-only transaction and
+     * close it (try-with-resources); set {@code hibernate.jdbc.fetch_size} so the driver reads rows
+     * in batches instead of buffering the whole result.
+     *
+     * @param params query parameters; {@code page}, {@code pageSize} and {@code cursor} are ignored
+     * @return stream of matching entities
+     */
+    default Stream<T> streamByQueryParams(QueryParams params) {
+        return PaginatedQueryExecutor.stream(this, params);
+    }
+
+    /**
+     * Streams projections of every matching row; see {@link #streamByQueryParams(QueryParams)} and
+     * {@link #findAllByQueryParams(QueryParams, Class)}. Projections are untracked, so memory stays
+     * constant.
+     *
+     * @param params query parameters; {@code page}, {@code pageSize} and {@code cursor} are ignored
+     * @param projection interface or DTO type to select
+     * @return stream of projections
+     */
+    default <P> Stream<P> streamByQueryParams(QueryParams params, Class<P> projection) {
+        return PaginatedQueryExecutor.stream(this, params, projection);
+    }
+
+    /**
+     * Passes every matching entity to {@code action} from one streamed query, clearing the
+     * persistence context every {@value PaginatedQueryExecutor#EXPORT_BATCH_SIZE} rows. Must run in
+     * a transaction; entities are detached after {@code action} returns and changes are discarded.
+     *
+     * @param params query parameters; {@code page}, {@code pageSize} and {@code cursor} are ignored
+     * @param entityManager entity manager of the current transaction
+     * @param action called once per entity
+     */
+    default void forEachByQueryParams(QueryParams params, EntityManager entityManager, Consumer<? super T> action) {
+        PaginatedQueryExecutor.forEach(this, params, entityManager, PaginatedQueryExecutor.EXPORT_BATCH_SIZE, action);
+    }
+
+    /**
+     * Executes the same query with keyset (cursor) pagination: pass {@link CursorPage#getNextCursor()}
+     * as {@link QueryParams#cursor()} to read the next slice. No total count is computed.
+     *
+     * @param params query parameters; {@code page} is ignored
+     * @return slice of matching entities with the cursor for the next slice
+     */
+    default CursorPage<T> findAllByCursor(QueryParams params) {
+        return PaginatedQueryExecutor.executeKeyset(this, params);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.corems.common.utils.db.spec;
+
+/**
+ * How predicates on collection fields ({@code SearchableRepository.getCollectionFields()}) are expressed.
+ */
+public enum CollectionJoinStrategy {
+    /**
+     * Each predicate becomes {@code EXISTS (SELECT 1 FROM <collection> WHERE ...)} correlated to the
+     * entity. Rows are never multiplied, so no DISTINCT is needed and counts stay exact.
+     * A predicate matches when any element satisfies it.
+     */
+    EXISTS,
+    /**
+     * One LEFT JOIN per collection and query, shared by all predicates on that collection, so they
+     * must hold for the same element. Entities matching through several elements are returned once
+     * per matching row.
+     */
+    JOIN
+}
@@ -0,0 +1,114 @@
+package com.corems.common.utils.db.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Entity attribute path resolved once from a dotted field name.
+ * <p>
+ * The parts are split up front and the collection decision is made against the repository's
+ * collection fields, so building a predicate only walks {@code root.get(...)}. Predicates on a
+ * collection field are wrapped according to the {@link CollectionJoinStrategy}.
+ *
+ * @param field resolved entity field (after alias resolution)
+ * @param parts path segments of {@code field}
+ * @param joinFirst whether the first segment is a collection
+ * @param strategy how predicates on a collection are expressed
+ */
+public record FieldPath(String field, String[] parts, boolean joinFirst, CollectionJoinStrategy strategy) {
+
+    public static FieldPath compile(String field, List<String> collectionFields) {
+        return compile(field, collectionFields, CollectionJoinStrategy.EXISTS);
+    }
+
+    public static FieldPath compile(String field, List<String> collectionFields, CollectionJoinStrategy strategy) {
+        if (field == null || field.isBlank()) {
+            return new FieldPath(field, new String[0], false, strategy);
+        }
+        String[] parts = field.split("\\.");
+        return new FieldPath(field, parts, collectionFields.contains(parts[0]), strategy);
+    }
+
+    /**
+     * Builds {@code predicate} on this path. Collection paths are evaluated in a correlated
+     * {@code EXISTS} subquery or on a LEFT JOIN reused within the query.
+     */
+    public Predicate toPredicate(Root<?> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                 Function<Path<?>, Predicate> predicate) {
+        if (parts.length == 0) {
+            return predicate.apply(root);
+        }
+        if (!joinFirst) {
+            return predicate.apply(navigate(root.get(parts[0])));
+        }
+        if (strategy == CollectionJoinStrategy.EXISTS && query != null) {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Join<?, ?> element = correlate(subquery, root).join(parts[0]);
+            return cb.exists(subquery.select(cb.literal(1)).where(predicate.apply(navigate(element))));
+        }
+        // LEFT Join the collection to include entities without collection values
+        return predicate.apply(navigate(leftJoin(root, parts[0])));
+    }
+
+    /**
+     * Widens a null check built by {@link #toPredicate} so owners without any collection element
+     * match as well. A LEFT JOIN yields a null row for them; the {@code EXISTS} form only sees
+     * existing elements, so it is OR-ed with {@code IS EMPTY}.
+     */
+    public Predicate orMissingElement(Predicate predicate, Root<?> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (!joinFirst || strategy != CollectionJoinStrategy.EXISTS || query == null) {
+            return predicate;
+        }
+        return cb.or(predicate, cb.isEmpty(root.<Collection<Object>>get(parts[0])));
+    }
+
+    private Path<?> navigate(Path<?> first) {
+        Path<?> path = first;
+        for (int i = 1; i < parts.length; i++) {
+            path = path.get(parts[i]);
+        }
+        return path;
+    }
+
+    private static <X> Root<X> correlate(Subquery<?> subquery, Root<X> root) {
+        return subquery.correlate(root);
+    }
+
+    // One join per collection and query, shared by every predicate on it
+    private static Join<?, ?> leftJoin(From<?, ?> from, String attribute) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getJoinType() == JoinType.LEFT && join.getAttribute().getName().equals(attribute)) {
+                return join;
+            }
+        }
+        return from.join(attribute, JoinType.LEFT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FieldPath other && joinFirst == other.joinFirst && strategy == other.strategy
+                && Arrays.equals(parts, other.parts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(parts) + Boolean.hashCode(joinFirst)) + strategy.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field;
+    }
+}
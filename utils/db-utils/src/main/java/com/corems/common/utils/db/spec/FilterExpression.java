@@ -0,0 +1,18 @@
+package com.corems.common.utils.db.spec;
+
+import java.util.List;
+
+/**
+ * Boolean filter tree parsed from a filter expression, compiled by
+ * {@link SpecificationBuilder#build(FilterExpression, List)} into a single {@code Specification}.
+ */
+public sealed interface FilterExpression {
+
+    record Term(FilterRequest filter) implements FilterExpression {}
+
+    record And(List<FilterExpression> operands) implements FilterExpression {}
+
+    record Or(List<FilterExpression> operands) implements FilterExpression {}
+
+    record Not(FilterExpression operand) implements FilterExpression {}
+}
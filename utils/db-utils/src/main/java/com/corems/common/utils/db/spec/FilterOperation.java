@@ -10,4 +10,7 @@ public enum FilterOperation {
     LT,
     GTE,
     LTE,
+    BETWEEN,
+    IS_NULL,
+    STARTS_WITH,
 }
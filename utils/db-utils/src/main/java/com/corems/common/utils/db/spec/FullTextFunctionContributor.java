@@ -0,0 +1,31 @@
+package com.corems.common.utils.db.spec;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the functions used by the PostgreSQL {@link FullTextSearch} strategies.
+ * <p>
+ * Criteria queries cannot express the {@code @@} and {@code %} operators directly, and calling
+ * the functions behind them would keep the planner from using GIN indexes, so they are
+ * registered as SQL patterns. Discovered by Hibernate through {@code META-INF/services}.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String TS_MATCH = "corems_ts_match";
+    public static final String TRGM_MATCH = "corems_trgm_match";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+
+        functionContributions.getFunctionRegistry().registerPattern(TS_MATCH,
+                "(to_tsvector(cast(?1 as regconfig), ?2) @@ plainto_tsquery(cast(?1 as regconfig), ?3))", booleanType);
+        functionContributions.getFunctionRegistry().registerPattern(TRGM_MATCH,
+                "(?1 % ?2)", booleanType);
+    }
+}
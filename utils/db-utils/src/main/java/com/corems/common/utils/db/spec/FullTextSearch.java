@@ -0,0 +1,20 @@
+package com.corems.common.utils.db.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Builds the predicate for a {@link SearchMode#FULL_TEXT} search field.
+ * <p>
+ * {@link #LIKE} works on every database and scans; {@link PostgresFullTextSearch} and
+ * {@link PostgresTrigramSearch} use PostgreSQL operators that a GIN index can serve.
+ */
+@FunctionalInterface
+public interface FullTextSearch {
+
+    /** Database-agnostic fallback: {@code lower(field) LIKE '%term%'}. */
+    FullTextSearch LIKE = (cb, path, term) -> LikePredicateBuilder.build(cb, path, term, SearchMode.CONTAINS);
+
+    Predicate toPredicate(CriteriaBuilder cb, Path<?> path, String term);
+}
@@ -7,41 +7,54 @@ import org.springframework.data.jpa.domain.Specification;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 import java.util.Arrays;
 import java.util.List;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeParseException;
-import java.time.Instant;
-import java.util.UUID;
+import java.util.Locale;
 
 public class GenericSpecification<T> implements Specification<T> {
     private final FilterRequest criteria;
-    private final List<String> collectionFields;
+    private final FieldPath fieldPath;
 
     public GenericSpecification(FilterRequest criteria) {
         this(criteria, List.of());
     }
 
     public GenericSpecification(FilterRequest criteria, List<String> collectionFields) {
+        this(criteria, FieldPath.compile(criteria.field(), collectionFields != null ? collectionFields : List.of()));
+    }
+
+    /**
+     * @param fieldPath precompiled path for {@code criteria.field()}, shared across requests
+     */
+    public GenericSpecification(FilterRequest criteria, FieldPath fieldPath) {
         this.criteria = criteria;
-        this.collectionFields = collectionFields != null ? collectionFields : List.of();
+        this.fieldPath = fieldPath;
     }
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
-        Path<?> path = resolvePath(root, criteria.field());
+        Predicate predicate = fieldPath.toPredicate(root, query, cb, path -> toPredicate(path, cb));
+        // An empty collection counts as null, as it does on a LEFT JOIN
+        return isNullCheck() ? fieldPath.orMissingElement(predicate, root, query, cb) : predicate;
+    }
+
+    private boolean isNullCheck() {
+        if (criteria.op() != FilterOperation.IS_NULL) {
+            return false;
+        }
+        String raw = criteria.value() == null ? "" : criteria.value().trim().toLowerCase(Locale.ROOT);
+        return raw.isEmpty() || raw.equals("true");
+    }
+
+    private Predicate toPredicate(Path<?> path, CriteriaBuilder cb) {
         String raw = criteria.value() == null ? "" : criteria.value();
 
         return switch (criteria.op()) {
-            case LIKE -> {
-                Predicate[] variants = LikePredicateBuilder.buildLikeVariants(cb, path, raw);
-                yield cb.or(variants);
-            }
+            case LIKE -> LikePredicateBuilder.buildPattern(cb, path, raw);
             case IN -> {
                 List<Object> values = Arrays.stream(raw.split(","))
                         .map(String::trim)
@@ -83,6 +96,24 @@ public class GenericSpecification<T> implements Specification<T> {
                 Object casted = castValue(path, raw);
                 yield buildLessThanOrEqual(cb, path, casted, path.getJavaType());
             }
+            case BETWEEN -> {
+                String[] bounds = raw.split(",", -1);
+                if (bounds.length != 2) {
+                    throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID,
+                        "BETWEEN operation expects two comma-separated values");
+                }
+                // Both bounds inclusive
+                yield cb.and(
+                        buildGreaterThanOrEqual(cb, path, castValue(path, bounds[0].trim()), path.getJavaType()),
+                        buildLessThanOrEqual(cb, path, castValue(path, bounds[1].trim()), path.getJavaType()));
+            }
+            case IS_NULL -> switch (raw.trim().toLowerCase(Locale.ROOT)) {
+                case "", "true" -> cb.isNull(path);
+                case "false" -> cb.isNotNull(path);
+                default -> throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID,
+                        "IS_NULL operation expects true or false");
+            };
+            case STARTS_WITH -> LikePredicateBuilder.build(cb, path, raw, SearchMode.PREFIX);
             default -> {
                 Object casted = castValue(path, raw);
                 yield cb.equal(path, casted);
@@ -147,106 +178,8 @@ public class GenericSpecification<T> implements Specification<T> {
         return cb.lessThanOrEqualTo(path.as(String.class), casted.toString());
     }
 
-    private Path<?> resolvePath(Path<?> root, String field) {
-        if (field == null || field.isBlank()) return root;
-
-        // Check if field contains dot notation (e.g., "categories.name")
-        if (field.contains(".")) {
-            String[] parts = field.split("\\.");
-            String basePath = parts[0];
-
-            // Check if base path is a collection field
-            if (collectionFields.contains(basePath)) {
-                if (root instanceof Root<?> rootPath) {
-                    // LEFT Join the collection to include entities without collection values
-                    Path<?> path = rootPath.join(basePath, JoinType.LEFT);
-                    // Navigate to nested fields
-                    for (int i = 1; i < parts.length; i++) {
-                        path = path.get(parts[i]);
-                    }
-                    return path;
-                }
-            }
-            // Regular nested path - navigate normally
-            Path<?> path = root;
-            for (String part : parts) {
-                path = path.get(part);
-            }
-            return path;
-        }
-
-        // Simple field - check if it's a collection
-        if (collectionFields.contains(field)) {
-            if (root instanceof Root<?> rootPath) {
-                // Use LEFT JOIN for collection fields
-                return rootPath.join(field, JoinType.LEFT);
-            }
-        }
-
-        // Regular field - navigate normally
-        return Arrays.stream(field.split("\\."))
-                .reduce(root, Path::get, (p1, p2) -> p1);
-    }
-
     private Object castValue(Path<?> path, String value) {
         if (value == null) return null;
-        Class<?> javaType = path.getJavaType();
-
-        // Strings
-        if (javaType.equals(String.class)) return value;
-
-        // Booleans
-        if (javaType.equals(Boolean.class) || javaType.equals(boolean.class)) return Boolean.valueOf(value);
-
-        // UUID
-        if (javaType.equals(UUID.class)) {
-            try {
-                return UUID.fromString(value);
-            } catch (IllegalArgumentException ex) {
-                throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid UUID value '" + value + "' for field '" + criteria.field() + "'");
-            }
-        }
-
-        // Date/time
-        if (javaType.equals(OffsetDateTime.class)) {
-            try {
-                return OffsetDateTime.parse(value);
-            } catch (DateTimeParseException ex) {
-                throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid datetime value '" + value + "' for field '" + criteria.field() + "' (expected ISO-8601)");
-            }
-        }
-        if (javaType.equals(Instant.class)) {
-            try {
-                return Instant.parse(value);
-            } catch (DateTimeParseException ex) {
-                throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid instant value '" + value + "' for field '" + criteria.field() + "' (expected ISO-8601)");
-            }
-        }
-
-        // Numbers
-        if (Number.class.isAssignableFrom(javaType) || javaType.isPrimitive()) {
-            try {
-                if (javaType.equals(Integer.class) || javaType.equals(int.class)) return Integer.valueOf(value);
-                if (javaType.equals(Long.class) || javaType.equals(long.class)) return Long.valueOf(value);
-                if (javaType.equals(Double.class) || javaType.equals(double.class)) return Double.valueOf(value);
-                if (javaType.equals(Float.class) || javaType.equals(float.class)) return Float.valueOf(value);
-                if (javaType.equals(java.math.BigDecimal.class)) return new java.math.BigDecimal(value);
-            } catch (NumberFormatException ex) {
-                throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid numeric value '" + value + "' for field '" + criteria.field() + "' (expected " + javaType.getSimpleName() + ")");
-            }
-        }
-
-        // Enums
-        if (javaType.isEnum()) {
-            try {
-                @SuppressWarnings({"unchecked", "rawtypes"})
-                Enum e = Enum.valueOf((Class<? extends Enum>) javaType, value);
-                return e;
-            } catch (Exception ex) {
-                throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid enum value '" + value + "' for field '" + criteria.field() + "'");
-            }
-        }
-
-        return value;
+        return ValueParsers.forType(path.getJavaType()).parse(value, criteria.field());
     }
 }
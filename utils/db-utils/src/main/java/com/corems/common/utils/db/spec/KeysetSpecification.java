@@ -0,0 +1,131 @@
+package com.corems.common.utils.db.spec;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.exception.handler.DefaultExceptionReasonCodes;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seek predicate selecting the rows that sort after a given row.
+ * <p>
+ * For orders {@code (f1, ..., fn)} and the last seen values {@code (v1, ..., vn)} this builds
+ * {@code (f1 after v1) OR (f1 = v1 AND f2 after v2) OR ...}, AND-ed with a redundant
+ * {@code f1 >= v1} ({@code <=} for DESC) so the database can start an index range scan at the cursor.
+ * Nulls are treated as the largest value, so the query must sort nulls last for ASC and first for
+ * DESC; {@code IS NULL} branches are only added for optional attributes, never for the id field.
+ * The last order must be unique (the id) for the sequence to be stable.
+ */
+public class KeysetSpecification<T> implements Specification<T> {
+    private final List<Sort.Order> orders;
+    private final List<Object> values;
+    private final String idField;
+
+    public KeysetSpecification(List<Sort.Order> orders, List<Object> values, String idField) {
+        if (orders.size() != values.size()) {
+            throw new IllegalArgumentException("Expected one cursor value per sort order");
+        }
+        this.orders = List.copyOf(orders);
+        this.values = new ArrayList<>(values);
+        this.idField = idField;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        List<Predicate> branches = new ArrayList<>(orders.size());
+        List<Predicate> equalPrefix = new ArrayList<>(orders.size());
+        Predicate leadingBound = null;
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            Path<?> path = resolvePath(root, order.getProperty());
+            Object value = toAttributeType(path, values.get(i), order.getProperty());
+            boolean nullable = isNullable(root, order.getProperty());
+
+            if (i == 0 && value != null) {
+                leadingBound = atOrAfter(cb, path, value, order.isAscending(), nullable);
+            }
+            Predicate after = after(cb, path, value, order.isAscending(), nullable);
+            if (after != null) {
+                List<Predicate> branch = new ArrayList<>(equalPrefix);
+                branch.add(after);
+                branches.add(cb.and(branch.toArray(Predicate[]::new)));
+            }
+            equalPrefix.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+        }
+        if (branches.isEmpty()) {
+            return cb.disjunction();
+        }
+        Predicate seek = cb.or(branches.toArray(Predicate[]::new));
+        return leadingBound == null ? seek : cb.and(leadingBound, seek);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Predicate after(CriteriaBuilder cb, Path<?> path, Object value, boolean ascending, boolean nullable) {
+        if (value == null) {
+            // Nulls are largest: nothing follows a null ascending, every non-null follows it descending
+            return ascending ? null : cb.isNotNull(path);
+        }
+        Expression<? extends Comparable> expr = (Expression<? extends Comparable>) path;
+        Comparable comparable = (Comparable) value;
+        if (!ascending) {
+            return cb.lessThan(expr, comparable);
+        }
+        return nullable ? cb.or(cb.greaterThan(expr, comparable), cb.isNull(path)) : cb.greaterThan(expr, comparable);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Predicate atOrAfter(CriteriaBuilder cb, Path<?> path, Object value, boolean ascending, boolean nullable) {
+        Expression<? extends Comparable> expr = (Expression<? extends Comparable>) path;
+        Comparable comparable = (Comparable) value;
+        if (!ascending) {
+            return cb.lessThanOrEqualTo(expr, comparable);
+        }
+        Predicate bound = cb.greaterThanOrEqualTo(expr, comparable);
+        return nullable ? cb.or(bound, cb.isNull(path)) : bound;
+    }
+
+    private boolean isNullable(Root<T> root, String field) {
+        if (field.equals(idField)) {
+            return false;
+        }
+        Path<?> path = root;
+        for (String part : field.split("\\.")) {
+            path = path.get(part);
+            if (!(path.getModel() instanceof SingularAttribute<?, ?> attribute) || attribute.isOptional()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Object toAttributeType(Path<?> path, Object value, String field) {
+        Class<?> javaType = path.getJavaType();
+        if (value instanceof String name && javaType.isEnum()) {
+            try {
+                return Enum.valueOf((Class<? extends Enum>) javaType, name);
+            } catch (IllegalArgumentException ex) {
+                throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid cursor value for field '" + field + "'");
+            }
+        }
+        return value;
+    }
+
+    private static Path<?> resolvePath(Root<?> root, String field) {
+        Path<?> path = root;
+        for (String part : field.split("\\.")) {
+            path = path.get(part);
+        }
+        return path;
+    }
+}
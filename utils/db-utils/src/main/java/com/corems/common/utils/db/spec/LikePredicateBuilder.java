@@ -5,9 +5,39 @@ import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Expression;
 
+import java.util.Locale;
+
 public final class LikePredicateBuilder {
+    private static final char ESCAPE = '\\';
+
     private LikePredicateBuilder() {}
 
+    /**
+     * Single case-insensitive LIKE predicate for the mode. Wildcards in the term are escaped,
+     * so a prefix pattern stays index-friendly.
+     */
+    public static Predicate build(CriteriaBuilder cb, Path<?> path, String raw, SearchMode mode) {
+        String term = escape(raw == null ? "" : raw.toLowerCase(Locale.ROOT));
+        Expression<String> expr = cb.lower(path.as(String.class));
+        String pattern = mode == SearchMode.PREFIX ? term + "%" : "%" + term + "%";
+        return cb.like(expr, pattern, ESCAPE);
+    }
+
+    /**
+     * Case-insensitive contains match for the {@code like} filter operator. Unlike
+     * {@link #build(CriteriaBuilder, Path, String, SearchMode)}, {@code %} and {@code _} in the value
+     * are kept as wildcards, so {@code name:like:a%b} matches {@code "a...b"}.
+     */
+    public static Predicate buildPattern(CriteriaBuilder cb, Path<?> path, String raw) {
+        String term = raw == null ? "" : raw.toLowerCase(Locale.ROOT);
+        return cb.like(cb.lower(path.as(String.class)), "%" + term + "%");
+    }
+
+    /**
+     * @deprecated the contains variant already matches the prefix and suffix variants, and the OR
+     * keeps the database from using an index; use {@link #build(CriteriaBuilder, Path, String, SearchMode)}
+     */
+    @Deprecated
     public static Predicate[] buildLikeVariants(CriteriaBuilder cb, Path<?> path, String raw) {
         String term = raw == null ? "" : raw.toLowerCase();
         Expression<String> expr = cb.lower(path.as(String.class));
@@ -16,5 +46,19 @@ public final class LikePredicateBuilder {
         Predicate p3 = cb.like(expr, "%" + term);
         return new Predicate[] { p1, p2, p3 };
     }
-}
 
+    private static String escape(String term) {
+        if (term.indexOf('%') < 0 && term.indexOf('_') < 0 && term.indexOf(ESCAPE) < 0) {
+            return term;
+        }
+        StringBuilder sb = new StringBuilder(term.length() + 4);
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.corems.common.utils.db.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+/**
+ * PostgreSQL text search: {@code to_tsvector(config, field) @@ plainto_tsquery(config, term)}.
+ * <p>
+ * Rendered through the {@value FullTextFunctionContributor#TS_MATCH} function, so the query uses the
+ * {@code @@} operator and can be served by an expression index with the same configuration:
+ * <pre>
+ * CREATE INDEX users_name_fts ON users USING GIN (to_tsvector('simple', name));
+ * </pre>
+ *
+ * @param config text search configuration, e.g. {@code simple} or {@code english}; inlined into the SQL
+ */
+public record PostgresFullTextSearch(String config) implements FullTextSearch {
+
+    public PostgresFullTextSearch {
+        if (config == null || !config.matches("[A-Za-z_][A-Za-z0-9_.]*")) {
+            throw new IllegalArgumentException("Invalid text search configuration: " + config);
+        }
+    }
+
+    @Override
+    public Predicate toPredicate(CriteriaBuilder cb, Path<?> path, String term) {
+        return cb.isTrue(cb.function(FullTextFunctionContributor.TS_MATCH, Boolean.class,
+                cb.literal(config), path.as(String.class), bind(cb, term)));
+    }
+
+    // Bind the term as a parameter where the provider allows it; the configuration stays a literal
+    static Expression<String> bind(CriteriaBuilder cb, String value) {
+        return cb instanceof HibernateCriteriaBuilder hcb ? hcb.value(value) : cb.literal(value);
+    }
+}
@@ -0,0 +1,28 @@
+package com.corems.common.utils.db.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * PostgreSQL {@code pg_trgm} similarity match: {@code lower(field) % lower(term)}.
+ * <p>
+ * Tolerates typos and partial words, and can use a trigram index:
+ * <pre>
+ * CREATE EXTENSION IF NOT EXISTS pg_trgm;
+ * CREATE INDEX users_name_trgm ON users USING GIN (lower(name) gin_trgm_ops);
+ * </pre>
+ * The threshold is {@code pg_trgm.similarity_threshold} (0.3 by default).
+ */
+public final class PostgresTrigramSearch implements FullTextSearch {
+
+    public static final PostgresTrigramSearch INSTANCE = new PostgresTrigramSearch();
+
+    private PostgresTrigramSearch() {}
+
+    @Override
+    public Predicate toPredicate(CriteriaBuilder cb, Path<?> path, String term) {
+        return cb.isTrue(cb.function(FullTextFunctionContributor.TRGM_MATCH, Boolean.class,
+                cb.lower(path.as(String.class)), cb.lower(PostgresFullTextSearch.bind(cb, term))));
+    }
+}
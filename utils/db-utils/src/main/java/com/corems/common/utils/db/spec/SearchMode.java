@@ -0,0 +1,13 @@
+package com.corems.common.utils.db.spec;
+
+/**
+ * How a free-text search term is matched against a search field. Each mode yields exactly one predicate.
+ */
+public enum SearchMode {
+    /** {@code lower(field) LIKE 'term%'}; can use a btree index on {@code lower(field)} (text_pattern_ops on PostgreSQL). */
+    PREFIX,
+    /** {@code lower(field) LIKE '%term%'}; matches anywhere, always scans. */
+    CONTAINS,
+    /** Delegated to the repository's {@link FullTextSearch} strategy. */
+    FULL_TEXT
+}
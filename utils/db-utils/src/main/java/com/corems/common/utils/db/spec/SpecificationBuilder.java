@@ -17,5 +17,40 @@ public class SpecificationBuilder {
         }
         return spec;
     }
+
+    public static <T> Specification<T> build(FilterExpression expression, List<String> collectionFields) {
+        return build(expression, collectionFields, CollectionJoinStrategy.EXISTS);
+    }
+
+    /**
+     * Compiles a filter tree into one specification; fields are used as given, without alias
+     * resolution or validation. Negated collection terms become {@code NOT EXISTS} under
+     * {@link CollectionJoinStrategy#EXISTS}, i.e. "no element matches".
+     */
+    public static <T> Specification<T> build(FilterExpression expression, List<String> collectionFields,
+                                             CollectionJoinStrategy strategy) {
+        if (expression == null) return null;
+        return switch (expression) {
+            case FilterExpression.Term term -> new GenericSpecification<>(term.filter(),
+                    FieldPath.compile(term.filter().field(), collectionFields != null ? collectionFields : List.of(), strategy));
+            case FilterExpression.And and -> {
+                Specification<T> spec = null;
+                for (FilterExpression operand : and.operands()) {
+                    Specification<T> next = build(operand, collectionFields, strategy);
+                    spec = (spec == null) ? next : spec.and(next);
+                }
+                yield spec;
+            }
+            case FilterExpression.Or or -> {
+                Specification<T> spec = null;
+                for (FilterExpression operand : or.operands()) {
+                    Specification<T> next = build(operand, collectionFields, strategy);
+                    spec = (spec == null) ? next : spec.or(next);
+                }
+                yield spec;
+            }
+            case FilterExpression.Not not -> Specification.not(build(not.operand(), collectionFields, strategy));
+        };
+    }
 }
 
@@ -0,0 +1,114 @@
+package com.corems.common.utils.db.spec;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.exception.handler.DefaultExceptionReasonCodes;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Converts raw filter values to an attribute's Java type.
+ * <p>
+ * The parser for a type is selected once and kept in a {@link ClassValue}, so binding a value
+ * is a single lookup instead of walking the type checks on every request.
+ */
+public final class ValueParsers {
+
+    @FunctionalInterface
+    public interface ValueParser {
+        /**
+         * @param field API field name, used in error messages
+         */
+        Object parse(String value, String field);
+    }
+
+    private static final ValueParser IDENTITY = (value, field) -> value;
+
+    private static final ClassValue<ValueParser> PARSERS = new ClassValue<>() {
+        @Override
+        protected ValueParser computeValue(Class<?> javaType) {
+            return create(javaType);
+        }
+    };
+
+    private ValueParsers() {}
+
+    public static ValueParser forType(Class<?> javaType) {
+        return PARSERS.get(javaType);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ValueParser create(Class<?> javaType) {
+        // Strings
+        if (javaType.equals(String.class)) return IDENTITY;
+
+        // Booleans
+        if (javaType.equals(Boolean.class) || javaType.equals(boolean.class)) return (value, field) -> Boolean.valueOf(value);
+
+        // UUID
+        if (javaType.equals(UUID.class)) {
+            return (value, field) -> {
+                try {
+                    return UUID.fromString(value);
+                } catch (IllegalArgumentException ex) {
+                    throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid UUID value '" + value + "' for field '" + field + "'");
+                }
+            };
+        }
+
+        // Date/time
+        if (javaType.equals(OffsetDateTime.class)) {
+            return (value, field) -> {
+                try {
+                    return OffsetDateTime.parse(value);
+                } catch (DateTimeParseException ex) {
+                    throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid datetime value '" + value + "' for field '" + field + "' (expected ISO-8601)");
+                }
+            };
+        }
+        if (javaType.equals(Instant.class)) {
+            return (value, field) -> {
+                try {
+                    return Instant.parse(value);
+                } catch (DateTimeParseException ex) {
+                    throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid instant value '" + value + "' for field '" + field + "' (expected ISO-8601)");
+                }
+            };
+        }
+
+        // Numbers
+        if (javaType.equals(Integer.class) || javaType.equals(int.class)) return number(javaType, Integer::valueOf);
+        if (javaType.equals(Long.class) || javaType.equals(long.class)) return number(javaType, Long::valueOf);
+        if (javaType.equals(Double.class) || javaType.equals(double.class)) return number(javaType, Double::valueOf);
+        if (javaType.equals(Float.class) || javaType.equals(float.class)) return number(javaType, Float::valueOf);
+        if (javaType.equals(BigDecimal.class)) return number(javaType, BigDecimal::new);
+
+        // Enums
+        if (javaType.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) javaType;
+            return (value, field) -> {
+                try {
+                    return Enum.valueOf(enumType, value);
+                } catch (Exception ex) {
+                    throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid enum value '" + value + "' for field '" + field + "'");
+                }
+            };
+        }
+
+        return IDENTITY;
+    }
+
+    private static ValueParser number(Class<?> javaType, Function<String, Object> parse) {
+        return (value, field) -> {
+            try {
+                return parse.apply(value);
+            } catch (NumberFormatException ex) {
+                throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid numeric value '" + value + "' for field '" + field + "' (expected " + javaType.getSimpleName() + ")");
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.corems.common.utils.db.utils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of total counts keyed by repository and filter signature.
+ * <p>
+ * Totals on large tables change slowly relative to how often list screens re-request them,
+ * so a few seconds of staleness avoids re-running the same {@code COUNT(*)} for every page.
+ * Entries are dropped on expiry; when {@link #MAX_ENTRIES} is reached the cache is cleared.
+ */
+final class CountCache {
+    static final int MAX_ENTRIES = 10_000;
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private record Entry(long count, long expiresAtNanos) {}
+
+    private CountCache() {}
+
+    static long get(String key, Duration ttl, LongSupplier counter) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return counter.getAsLong();
+        }
+        long now = System.nanoTime();
+        Entry entry = ENTRIES.get(key);
+        if (entry != null && now - entry.expiresAtNanos() < 0) {
+            return entry.count();
+        }
+
+        long count = counter.getAsLong();
+        if (ENTRIES.size() >= MAX_ENTRIES) {
+            ENTRIES.clear();
+        }
+        ENTRIES.put(key, new Entry(count, now + ttl.toNanos()));
+        return count;
+    }
+
+    static void clear() {
+        ENTRIES.clear();
+    }
+}
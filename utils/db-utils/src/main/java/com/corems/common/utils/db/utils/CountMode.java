@@ -0,0 +1,16 @@
+package com.corems.common.utils.db.utils;
+
+/**
+ * How {@link PaginatedQueryExecutor} computes the total for a page.
+ */
+public enum CountMode {
+    /** Run {@code COUNT(*)} with the same predicates (default). */
+    EXACT,
+    /** No count; a {@code Slice} is returned and has-next is read from one extra row. */
+    NONE,
+    /**
+     * Row estimate from database statistics via {@code SearchableRepository.estimateRowCount()}
+     * for unfiltered queries; filtered queries fall back to an exact count.
+     */
+    ESTIMATED
+}
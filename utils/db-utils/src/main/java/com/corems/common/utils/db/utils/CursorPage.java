@@ -0,0 +1,34 @@
+package com.corems.common.utils.db.utils;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Slice returned by keyset pagination. Carries the cursor for the next slice instead of a total count.
+ *
+ * @param <T> the element type
+ */
+public class CursorPage<T> extends SliceImpl<T> {
+
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, Pageable pageable, boolean hasNext, String nextCursor) {
+        super(content, pageable, hasNext);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return cursor to pass as {@link QueryParams#cursor()} for the next slice, or {@code null} on the last slice
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public <U> CursorPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorPage<>(getConvertedContent(converter), getPageable(), hasNext(), nextCursor);
+    }
+}
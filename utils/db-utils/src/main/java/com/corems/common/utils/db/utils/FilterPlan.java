@@ -0,0 +1,32 @@
+package com.corems.common.utils.db.utils;
+
+import com.corems.common.utils.db.spec.FieldPath;
+import com.corems.common.utils.db.spec.FilterOperation;
+import com.corems.common.utils.db.spec.FilterRequest;
+import com.corems.common.utils.db.spec.GenericSpecification;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Filters compiled for one (field, op) signature: aliases resolved, fields validated and paths
+ * split. Binding a request only pairs each compiled filter with its raw value.
+ */
+record FilterPlan(List<CompiledFilter> filters) {
+
+    record CompiledFilter(String field, FilterOperation op, FieldPath path) {}
+
+    /**
+     * @param requests parsed filters with the signature this plan was compiled for, in the same order
+     */
+    <T> Specification<T> bind(List<FilterRequest> requests) {
+        Specification<T> spec = null;
+        for (int i = 0; i < filters.size(); i++) {
+            CompiledFilter filter = filters.get(i);
+            FilterRequest bound = new FilterRequest(filter.field(), filter.op(), requests.get(i).value());
+            Specification<T> next = new GenericSpecification<>(bound, filter.path());
+            spec = (spec == null) ? Specification.where(next) : spec.and(next);
+        }
+        return spec;
+    }
+}
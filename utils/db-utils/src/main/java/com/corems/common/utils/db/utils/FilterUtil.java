@@ -2,6 +2,7 @@ package com.corems.common.utils.db.utils;
 
 import com.corems.common.exception.ServiceException;
 import com.corems.common.exception.handler.DefaultExceptionReasonCodes;
+import com.corems.common.utils.db.spec.FilterExpression;
 import com.corems.common.utils.db.spec.FilterOperation;
 import com.corems.common.utils.db.spec.FilterRequest;
 
@@ -23,29 +24,84 @@ public final class FilterUtil {
         if (rawFilters == null) return out;
         for (String raw : rawFilters) {
             if (raw == null || raw.isBlank()) continue;
-            String[] parts = raw.split(":", 3);
-            String field;
-            String opToken;
-            String value;
-            if (parts.length == 1) {
-                // only field provided - no value -> skip
-                continue;
-            } else if (parts.length == 2) {
-                field = parts[0].trim();
-                opToken = "eq";
-                value = parts[1];
-            } else {
-                field = parts[0].trim();
-                opToken = parts[1].trim().toLowerCase(Locale.ROOT);
-                value = parts[2];
+            FilterRequest request = parseTerm(raw);
+            if (request != null) {
+                out.add(request);
             }
-
-            FilterOperation op = mapOp(opToken);
-            out.add(new FilterRequest(field, op, value));
         }
         return out;
     }
 
+    /**
+     * Whether a raw filter is a boolean expression rather than a single {@code field[:op]:value}
+     * term. Expressions start with {@code (} or {@code !}, which no field name does.
+     */
+    public static boolean isExpression(String raw) {
+        if (raw == null) return false;
+        String trimmed = raw.stripLeading();
+        return trimmed.startsWith("(") || trimmed.startsWith("!");
+    }
+
+    /**
+     * Parses raw filters, terms and expressions alike, into one tree whose top level ANDs the
+     * entries (as {@link #parse(List)} does for plain terms).
+     * <p>
+     * Expression grammar: {@code |} is OR, {@code ;} is AND (binding tighter), {@code !} negates,
+     * parentheses group, and {@code \} escapes the next character of a value. Example:
+     * {@code (status:eq:active|status:eq:trial);!tags:contains:archived}.
+     *
+     * @return the filter tree, or {@code null} when there are no filters
+     * @throws ServiceException PARAMETER_INVALID for a malformed expression
+     */
+    public static FilterExpression parseExpression(List<String> rawFilters) {
+        List<FilterExpression> operands = new ArrayList<>();
+        if (rawFilters != null) {
+            for (String raw : rawFilters) {
+                if (raw == null || raw.isBlank()) continue;
+                if (isExpression(raw)) {
+                    operands.add(parseExpression(raw));
+                } else {
+                    FilterRequest request = parseTerm(raw);
+                    if (request != null) {
+                        operands.add(new FilterExpression.Term(request));
+                    }
+                }
+            }
+        }
+        if (operands.isEmpty()) return null;
+        return operands.size() == 1 ? operands.get(0) : new FilterExpression.And(List.copyOf(operands));
+    }
+
+    /**
+     * Parses a single filter expression; see {@link #parseExpression(List)} for the grammar.
+     *
+     * @throws ServiceException PARAMETER_INVALID for a malformed expression
+     */
+    public static FilterExpression parseExpression(String raw) {
+        return new ExpressionParser(raw).parse();
+    }
+
+    // field[:op]:value; returns null when no value is given
+    private static FilterRequest parseTerm(String raw) {
+        String[] parts = raw.split(":", 3);
+        String field;
+        String opToken;
+        String value;
+        if (parts.length == 1) {
+            // only field provided - no value -> skip
+            return null;
+        } else if (parts.length == 2) {
+            field = parts[0].trim();
+            opToken = "eq";
+            value = parts[1];
+        } else {
+            field = parts[0].trim();
+            opToken = parts[1].trim().toLowerCase(Locale.ROOT);
+            value = parts[2];
+        }
+        return new FilterRequest(field, mapOp(opToken), value);
+    }
+
     public static List<FilterRequest> parseAndResolve(List<String> rawFilters, List<String> allowed, Map<String,String> aliases) {
         List<FilterRequest> parsed = parse(rawFilters);
         List<String> finalAllowed = allowed == null ? List.of() : List.copyOf(allowed);
@@ -79,7 +135,118 @@ public final class FilterUtil {
             case "lt" -> FilterOperation.LT;
             case "gte" -> FilterOperation.GTE;
             case "lte" -> FilterOperation.LTE;
+            case "between" -> FilterOperation.BETWEEN;
+            case "isnull" -> FilterOperation.IS_NULL;
+            case "startswith" -> FilterOperation.STARTS_WITH;
             default -> throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Unknown filter op: " + token);
         };
     }
+
+    /**
+     * Recursive descent parser: {@code or := and ('|' and)*}, {@code and := unary (';' unary)*},
+     * {@code unary := '!' unary | '(' or ')' | term}. A term runs to the next unescaped
+     * {@code |}, {@code ;} or {@code )}.
+     */
+    private static final class ExpressionParser {
+        private static final int MAX_DEPTH = 32;
+
+        private final String input;
+        private int pos;
+        private int depth;
+
+        private ExpressionParser(String input) {
+            this.input = input == null ? "" : input;
+        }
+
+        FilterExpression parse() {
+            FilterExpression expression = or();
+            skipWhitespace();
+            if (pos < input.length()) {
+                throw invalid("unexpected '" + input.charAt(pos) + "' at position " + pos);
+            }
+            return expression;
+        }
+
+        private FilterExpression or() {
+            List<FilterExpression> operands = new ArrayList<>();
+            operands.add(and());
+            while (consume('|')) {
+                operands.add(and());
+            }
+            return operands.size() == 1 ? operands.get(0) : new FilterExpression.Or(List.copyOf(operands));
+        }
+
+        private FilterExpression and() {
+            List<FilterExpression> operands = new ArrayList<>();
+            operands.add(unary());
+            while (consume(';')) {
+                operands.add(unary());
+            }
+            return operands.size() == 1 ? operands.get(0) : new FilterExpression.And(List.copyOf(operands));
+        }
+
+        private FilterExpression unary() {
+            if (++depth > MAX_DEPTH) {
+                throw invalid("nested deeper than " + MAX_DEPTH + " levels");
+            }
+            try {
+                if (consume('!')) {
+                    return new FilterExpression.Not(unary());
+                }
+                if (consume('(')) {
+                    FilterExpression group = or();
+                    if (!consume(')')) {
+                        throw invalid("missing ')' at position " + pos);
+                    }
+                    return group;
+                }
+                return term();
+            } finally {
+                depth--;
+            }
+        }
+
+        private FilterExpression term() {
+            int start = pos;
+            StringBuilder sb = new StringBuilder();
+            while (pos < input.length()) {
+                char c = input.charAt(pos);
+                if (c == '\\' && pos + 1 < input.length()) {
+                    sb.append(input.charAt(pos + 1));
+                    pos += 2;
+                    continue;
+                }
+                if (c == '|' || c == ';' || c == ')') {
+                    break;
+                }
+                sb.append(c);
+                pos++;
+            }
+            String text = sb.toString().trim();
+            FilterRequest request = text.isEmpty() ? null : parseTerm(text);
+            if (request == null) {
+                throw invalid("expected field[:op]:value at position " + start);
+            }
+            return new FilterExpression.Term(request);
+        }
+
+        private boolean consume(char expected) {
+            skipWhitespace();
+            if (pos < input.length() && input.charAt(pos) == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private ServiceException invalid(String reason) {
+            return ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid filter expression: " + reason);
+        }
+    }
 }
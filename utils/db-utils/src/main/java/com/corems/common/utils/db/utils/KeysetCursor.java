@@ -0,0 +1,119 @@
+package com.corems.common.utils.db.utils;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.exception.handler.DefaultExceptionReasonCodes;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encodes the sort values of the last row of a slice into an opaque, URL-safe cursor.
+ * <p>
+ * Format: {@code <sort signature>.<tag><base64url value>...}, one dot-separated element per sort
+ * field. The tag records the value type, so decoding needs no entity metadata; enum values are
+ * kept as their name and resolved against the attribute type when the seek predicate is built.
+ * A cursor is only valid for the sort it was created with.
+ */
+public final class KeysetCursor {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetCursor() {}
+
+    public static String encode(String sortSignature, List<?> values) {
+        StringBuilder sb = new StringBuilder(signatureHash(sortSignature));
+        for (Object value : values) {
+            sb.append('.');
+            if (value == null) {
+                sb.append('n');
+                continue;
+            }
+            sb.append(tag(value));
+            String text = value instanceof Enum<?> e ? e.name() : value.toString();
+            sb.append(ENCODER.encodeToString(text.getBytes(StandardCharsets.UTF_8)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @throws ServiceException PARAMETER_INVALID when the cursor is malformed or was created for another sort
+     */
+    public static List<Object> decode(String cursor, String sortSignature, int expectedValues) {
+        String[] parts = cursor.split("\\.", -1);
+        if (parts.length != expectedValues + 1 || !parts[0].equals(signatureHash(sortSignature))) {
+            throw invalid();
+        }
+        List<Object> values = new ArrayList<>(expectedValues);
+        for (int i = 1; i < parts.length; i++) {
+            values.add(decodeValue(parts[i]));
+        }
+        return values;
+    }
+
+    private static char tag(Object value) {
+        return switch (value) {
+            case String _ -> 's';
+            case Integer _ -> 'i';
+            case Long _ -> 'l';
+            case Double _ -> 'd';
+            case Float _ -> 'f';
+            case BigDecimal _ -> 'm';
+            case Boolean _ -> 'b';
+            case Instant _ -> 't';
+            case OffsetDateTime _ -> 'o';
+            case LocalDate _ -> 'D';
+            case LocalDateTime _ -> 'T';
+            case UUID _ -> 'u';
+            case Enum<?> _ -> 'e';
+            default -> throw ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID,
+                    "Sort value type " + value.getClass().getSimpleName() + " is not supported for cursor pagination");
+        };
+    }
+
+    private static Object decodeValue(String part) {
+        if (part.isEmpty()) {
+            throw invalid();
+        }
+        char tag = part.charAt(0);
+        if (tag == 'n' && part.length() == 1) {
+            return null;
+        }
+        try {
+            String text = new String(DECODER.decode(part.substring(1)), StandardCharsets.UTF_8);
+            return switch (tag) {
+                case 's', 'e' -> text;
+                case 'i' -> Integer.valueOf(text);
+                case 'l' -> Long.valueOf(text);
+                case 'd' -> Double.valueOf(text);
+                case 'f' -> Float.valueOf(text);
+                case 'm' -> new BigDecimal(text);
+                case 'b' -> Boolean.valueOf(text);
+                case 't' -> Instant.parse(text);
+                case 'o' -> OffsetDateTime.parse(text);
+                case 'D' -> LocalDate.parse(text);
+                case 'T' -> LocalDateTime.parse(text);
+                case 'u' -> UUID.fromString(text);
+                default -> throw invalid();
+            };
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw invalid();
+        }
+    }
+
+    private static String signatureHash(String sortSignature) {
+        return Integer.toHexString(sortSignature.hashCode());
+    }
+
+    private static ServiceException invalid() {
+        return ServiceException.of(DefaultExceptionReasonCodes.PARAMETER_INVALID, "Invalid cursor");
+    }
+}
@@ -1,29 +1,330 @@
 package com.corems.common.utils.db.utils;
 
 import com.corems.common.utils.db.spec.FilterRequest;
-import com.corems.common.utils.db.spec.SpecificationBuilder;
+import com.corems.common.utils.db.spec.FullTextSearch;
+import com.corems.common.utils.db.spec.KeysetSpecification;
 import com.corems.common.utils.db.spec.LikePredicateBuilder;
+import com.corems.common.utils.db.spec.SearchMode;
+import org.springframework.beans.BeanWrapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Path;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.Predicate;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 import com.corems.common.utils.db.repo.SearchableRepository;
 
 public final class PaginatedQueryExecutor {
+    private static final String PREFIX_SEARCH_SUFFIX = "*";
+
+    /** Rows between persistence context clears in {@link #forEach}. */
+    public static final int EXPORT_BATCH_SIZE = 500;
+
     private PaginatedQueryExecutor() {}
 
     public static <T> Page<T> execute(
             JpaSpecificationExecutor<T> specRepo,
             QueryParams params
     ) {
+        if (params.countMode().orElse(CountMode.EXACT) == CountMode.NONE) {
+            throw new IllegalArgumentException("CountMode.NONE returns a Slice, use executeSlice");
+        }
+        return (Page<T>) executeSlice(specRepo, params);
+    }
+
+    /**
+     * Same query as {@link #execute}, selecting only the properties of {@code projection} (a closed
+     * interface or a DTO class whose constructor parameters name entity properties) instead of
+     * loading entities. The results are plain values, never tracked by the persistence context.
+     */
+    public static <T, P> Page<P> execute(
+            JpaSpecificationExecutor<T> specRepo,
+            QueryParams params,
+            Class<P> projection
+    ) {
+        if (params.countMode().orElse(CountMode.EXACT) == CountMode.NONE) {
+            throw new IllegalArgumentException("CountMode.NONE returns a Slice, use executeSlice");
+        }
+        return (Page<P>) executeSlice(specRepo, params, projection);
+    }
+
+    /**
+     * Same query as {@link #execute}, with the total computed per {@link QueryParams#countMode()}:
+     * a {@link Page} for {@link CountMode#EXACT} and {@link CountMode#ESTIMATED}, a plain
+     * {@link Slice} without any count query for {@link CountMode#NONE}.
+     * <p>
+     * Counts are cached for {@link SearchableRepository#getCountCacheTtl()} per search and filter
+     * signature, and skipped entirely when the fetched rows already show where the result ends.
+     * Associations in {@link SearchableRepository#getFetchGraph()} are loaded by a second query.
+     */
+    public static <T> Slice<T> executeSlice(
+            JpaSpecificationExecutor<T> specRepo,
+            QueryParams params
+    ) {
+        SearchableRepository<T, ?> searchableRepo = searchable(specRepo, params);
+        return withFetchGraph(searchableRepo, querySlice(searchableRepo, params, null));
+    }
+
+    /**
+     * {@link #executeSlice(JpaSpecificationExecutor, QueryParams)} with the selection narrowed to
+     * {@code projection}, as in {@link #execute(JpaSpecificationExecutor, QueryParams, Class)}.
+     */
+    public static <T, P> Slice<P> executeSlice(
+            JpaSpecificationExecutor<T> specRepo,
+            QueryParams params,
+            Class<P> projection
+    ) {
+        Objects.requireNonNull(projection);
+        return querySlice(searchable(specRepo, params), params, projection);
+    }
+
+    // projection == null reads entities
+    @SuppressWarnings("unchecked")
+    private static <T, R> Slice<R> querySlice(SearchableRepository<T, ?> searchableRepo, QueryParams params, Class<R> projection) {
+        CountMode countMode = params.countMode().orElse(CountMode.EXACT);
+        Duration countCacheTtl = searchableRepo.getCountCacheTtl();
+
+        // build pageable — PaginationUtil still expects allowed sort fields; pass repoSortAllowed
+        Pageable pageable = PaginationUtil.buildPageable(params.page(), params.pageSize(), params.sort(), searchableRepo.getAllowedSortFields());
+        Specification<T> spec = buildSpecification(searchableRepo, params);
+
+        if (countMode == CountMode.EXACT && (countCacheTtl == null || countCacheTtl.isZero() || countCacheTtl.isNegative())) {
+            if (projection != null) {
+                return searchableRepo.findBy(matchAllIfNull(spec), q -> q.as(projection).page(pageable));
+            }
+            return (Slice<R>) (spec == null ? searchableRepo.findAll(pageable) : searchableRepo.findAll(spec, pageable));
+        }
+
+        // Fetches pageSize + 1 rows; the extra row answers has-next without a count
+        Slice<R> slice = searchableRepo.findBy(matchAllIfNull(spec), q -> select(q, projection).slice(pageable));
+        if (countMode == CountMode.NONE) {
+            return slice;
+        }
+        LongSupplier counter = () -> {
+            if (countMode == CountMode.ESTIMATED && spec == null) {
+                Long estimate = searchableRepo.estimateRowCount();
+                if (estimate != null && estimate >= 0) {
+                    return estimate;
+                }
+            }
+            return spec == null ? searchableRepo.count() : searchableRepo.count(spec);
+        };
+        String cacheKey = countCacheKey(searchableRepo, countMode, params);
+        // Skips the count on a short last page, but still counts for an empty page past the end
+        return PageableExecutionUtils.getPage(slice.getContent(), pageable, () -> CountCache.get(cacheKey, countCacheTtl, counter));
+    }
+
+    /**
+     * Keyset (seek) pagination: reads the slice after the row encoded in {@link QueryParams#cursor()}
+     * instead of skipping {@code page * pageSize} rows, so deep slices cost the same as the first one.
+     * The requested sort is extended with the id field as a tiebreaker, no count query is run, and
+     * {@code page} is ignored.
+     */
+    public static <T> CursorPage<T> executeKeyset(
+            JpaSpecificationExecutor<T> specRepo,
+            QueryParams params
+    ) {
+        SearchableRepository<T, ?> searchableRepo = searchable(specRepo, params);
+
+        Pageable pageable = PaginationUtil.buildPageable(Optional.empty(), params.pageSize(), params.sort(), searchableRepo.getAllowedSortFields());
+        int pageSize = pageable.getPageSize();
+        Sort sort = withNullsLargest(withTiebreaker(pageable.getSort(), searchableRepo.getIdField()));
+        List<Sort.Order> orders = sort.toList();
+        String sortSignature = sort.toString();
+
+        Specification<T> spec = buildSpecification(searchableRepo, params);
+        String cursor = params.cursor().filter(c -> !c.isBlank()).orElse(null);
+        if (cursor != null) {
+            List<Object> lastValues = KeysetCursor.decode(cursor, sortSignature, orders.size());
+            Specification<T> seekSpec = new KeysetSpecification<>(orders, lastValues, searchableRepo.getIdField());
+            spec = (spec == null) ? seekSpec : spec.and(seekSpec);
+        }
+
+        // One extra row tells whether another slice exists
+        List<T> rows = searchableRepo.findBy(matchAllIfNull(spec), q -> q.sortBy(sort).limit(pageSize + 1).all());
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BeanWrapper last = new DirectFieldAccessFallbackBeanWrapper(content.get(content.size() - 1));
+            List<Object> lastValues = orders.stream()
+                    .map(order -> last.getPropertyValue(order.getProperty()))
+                    .toList();
+            nextCursor = KeysetCursor.encode(sortSignature, lastValues);
+        }
+        return new CursorPage<>(List.copyOf(withFetchGraph(searchableRepo, content)), PageRequest.of(0, pageSize, sort), hasNext, nextCursor);
+    }
+
+    /**
+     * Streams every row matching the search and filters from a single query in the requested sort;
+     * {@code page}, {@code pageSize}, {@code cursor} and {@code countMode} are ignored. Rows are read
+     * through a JDBC cursor, so consume the stream inside a transaction and close it.
+     */
+    public static <T> Stream<T> stream(
+            JpaSpecificationExecutor<T> specRepo,
+            QueryParams params
+    ) {
+        return streamQuery(searchable(specRepo, params), params, null);
+    }
+
+    /**
+     * {@link #stream(JpaSpecificationExecutor, QueryParams)} selecting only the properties of
+     * {@code projection}. Projections are not tracked by the persistence context, so memory stays
+     * flat however many rows are read.
+     */
+    public static <T, P> Stream<P> stream(
+            JpaSpecificationExecutor<T> specRepo,
+            QueryParams params,
+            Class<P> projection
+    ) {
+        Objects.requireNonNull(projection);
+        return streamQuery(searchable(specRepo, params), params, projection);
+    }
+
+    /**
+     * Passes every matching entity to {@code action} from a single streamed query, clearing
+     * {@code entityManager} after each {@code batchSize} rows so that managed entities do not
+     * accumulate. Run it in a transaction; changes made by {@code action} are discarded, and
+     * entities must not be used after {@code action} returns.
+     */
+    public static <T> void forEach(
+            JpaSpecificationExecutor<T> specRepo,
+            QueryParams params,
+            EntityManager entityManager,
+            int batchSize,
+            Consumer<? super T> action
+    ) {
+        Objects.requireNonNull(entityManager);
+        Objects.requireNonNull(action);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        try (Stream<T> rows = stream(specRepo, params)) {
+            Iterator<T> iterator = rows.iterator();
+            int inBatch = 0;
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                if (++inBatch == batchSize) {
+                    entityManager.clear();
+                    inBatch = 0;
+                }
+            }
+        }
+    }
+
+    private static <T, R> Stream<R> streamQuery(SearchableRepository<T, ?> searchableRepo, QueryParams params, Class<R> projection) {
+        Sort sort = PaginationUtil.parseSort(params.sort().orElse(null), searchableRepo.getAllowedSortFields());
+        Specification<T> spec = buildSpecification(searchableRepo, params);
+        return searchableRepo.findBy(matchAllIfNull(spec), q -> select(q, projection).sortBy(sort).stream());
+    }
+
+    /**
+     * Second phase of a page read: loads {@link SearchableRepository#getFetchGraph()} for the page's
+     * rows in one {@code id IN (...)} query, so the paginated query itself never fetch-joins a
+     * collection. The page content and total stay as returned by the first phase.
+     */
+    private static <T> Slice<T> withFetchGraph(SearchableRepository<T, ?> searchableRepo, Slice<T> slice) {
+        List<T> content = withFetchGraph(searchableRepo, slice.getContent());
+        if (content == slice.getContent()) {
+            return slice;
+        }
+        if (slice instanceof Page<T> page) {
+            return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
+        }
+        return new SliceImpl<>(content, slice.getPageable(), slice.hasNext());
+    }
+
+    private static <T> List<T> withFetchGraph(SearchableRepository<T, ?> searchableRepo, List<T> rows) {
+        List<String> fetchGraph = searchableRepo.getFetchGraph();
+        if (fetchGraph == null || fetchGraph.isEmpty() || rows.isEmpty()) {
+            return rows;
+        }
+        String idField = searchableRepo.getIdField();
+        List<Object> ids = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            ids.add(idOf(row, idField));
+        }
+
+        // project() turns the paths into a fetch graph for this query
+        Specification<T> byIds = (root, query, cb) -> root.get(idField).in(ids);
+        List<T> fetched = searchableRepo.findBy(byIds, q -> q.project(fetchGraph).all());
+        Map<Object, T> byId = HashMap.newHashMap(fetched.size());
+        for (T entity : fetched) {
+            byId.put(idOf(entity, idField), entity);
+        }
+
+        // IN returns rows in any order; restore the page order. Rows deleted in between are dropped.
+        List<T> content = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                content.add(entity);
+            }
+        }
+        return content;
+    }
+
+    private static Object idOf(Object entity, String idField) {
+        return new DirectFieldAccessFallbackBeanWrapper(entity).getPropertyValue(idField);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> FetchableFluentQuery<R> select(FetchableFluentQuery<T> query, Class<R> projection) {
+        return projection != null ? query.as(projection) : (FetchableFluentQuery<R>) query;
+    }
+
+    private static <T> Specification<T> matchAllIfNull(Specification<T> spec) {
+        return spec != null ? spec : (root, query, cb) -> cb.conjunction();
+    }
+
+    // Filter order does not change the count, so the signature sorts them
+    private static String countCacheKey(SearchableRepository<?, ?> searchableRepo, CountMode countMode, QueryParams params) {
+        List<String> filters = params.filters().orElse(List.of()).stream()
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+        return searchableRepo.getClass().getName() + '|' + countMode + '|'
+                + PaginationUtil.sanitizeSearch(params.search()) + '|' + filters;
+    }
+
+    private static Sort withTiebreaker(Sort sort, String idField) {
+        if (sort.getOrderFor(idField) != null) {
+            return sort;
+        }
+        return sort.and(Sort.by(Sort.Direction.ASC, idField));
+    }
+
+    // KeysetSpecification treats nulls as the largest value; pin that instead of relying on the database default
+    private static Sort withNullsLargest(Sort sort) {
+        return Sort.by(sort.stream()
+                .map(order -> order.isAscending() ? order.nullsLast() : order.nullsFirst())
+                .toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> SearchableRepository<T, ?> searchable(JpaSpecificationExecutor<T> specRepo, QueryParams params) {
         Objects.requireNonNull(specRepo);
         Objects.requireNonNull(params);
 
@@ -31,90 +332,50 @@ public final class PaginatedQueryExecutor {
         if (!(specRepo instanceof SearchableRepository<?, ?>)) {
             throw new IllegalArgumentException("Repository must implement SearchableRepository");
         }
+        return (SearchableRepository<T, ?>) specRepo;
+    }
 
-        SearchableRepository<T, ?> searchableRepo = (SearchableRepository<T, ?>) specRepo;
-        List<String> repoSearchFields = searchableRepo.getSearchFields();
-        List<String> repoFilterAllowed = searchableRepo.getAllowedFilterFields();
-        List<String> repoSortAllowed = searchableRepo.getAllowedSortFields();
-        List<String> repoCollectionFields = searchableRepo.getCollectionFields();
-        Map<String, String> aliases = searchableRepo.getFieldAliases();
-
-        // make effectively-final copies for use inside lambdas
-        final List<String> finalSearchFields = List.copyOf(repoSearchFields);
-        final List<String> finalFilterAllowed = List.copyOf(repoFilterAllowed);
-        final List<String> finalCollectionFields = List.copyOf(repoCollectionFields);
-        final Map<String, String> finalAliases = Map.copyOf(aliases);
-
-        // build pageable — PaginationUtil still expects allowed sort fields; pass repoSortAllowed
-        Pageable pageable = PaginationUtil.buildPageable(params.page(), params.pageSize(), params.sort(), repoSortAllowed);
+    private static <T> Specification<T> buildSpecification(SearchableRepository<T, ?> searchableRepo, QueryParams params) {
+        // aliases, allowed fields and paths are compiled once per repository and filter signature
+        RepositoryQueryPlan plan = RepositoryQueryPlan.of(searchableRepo);
 
         // parse raw filter strings (controller provides Optional<List<String>>)
-        // validate and resolve filters specification
-        List<FilterRequest> resolvedFilters = FilterUtil.parseAndResolve(
-                params.filters().orElse(List.of()),
-                finalFilterAllowed, finalAliases);
-
-        // build specification from filters (pass collection fields for JOIN support)
-        Specification<T> spec = SpecificationBuilder.build(resolvedFilters, finalCollectionFields);
+        List<String> rawFilters = params.filters().orElse(List.of());
+        Specification<T> spec;
+        if (rawFilters.stream().anyMatch(FilterUtil::isExpression)) {
+            // AND/OR/NOT groups compile into one specification
+            spec = plan.compile(FilterUtil.parseExpression(rawFilters));
+        } else {
+            List<FilterRequest> filters = FilterUtil.parse(rawFilters);
+            spec = filters.isEmpty() ? null : plan.filterPlan(filters).bind(filters);
+        }
 
-        // validate and resolve search specification if applicable
+        // build search specification if applicable; a trailing '*' forces prefix matching on every field
         String searchValue = PaginationUtil.sanitizeSearch(params.search());
-        if (!searchValue.isEmpty() && !finalSearchFields.isEmpty()) {
-            List<String> resolvedSearchFields = finalSearchFields.stream()
-                    .map(f -> finalAliases.getOrDefault(f, f))
-                    .toList();
-
+        SearchMode forcedMode = null;
+        if (searchValue.endsWith(PREFIX_SEARCH_SUFFIX)) {
+            forcedMode = SearchMode.PREFIX;
+            searchValue = searchValue.substring(0, searchValue.length() - PREFIX_SEARCH_SUFFIX.length()).trim();
+        }
+        List<RepositoryQueryPlan.SearchField> searchFields = plan.searchFields();
+        if (!searchValue.isEmpty() && !searchFields.isEmpty()) {
+            final String term = searchValue;
+            final SearchMode forced = forcedMode;
+            final FullTextSearch fullTextSearch = plan.fullTextSearch();
             Specification<T> searchSpec = (root, query, cb) -> {
-                Predicate[] preds = resolvedSearchFields.stream()
-                        .filter(Objects::nonNull)
-                        .map(field -> {
-                            Path<?> path;
-
-                            // Check if field contains dot notation (e.g., "categories.name")
-                            if (field.contains(".")) {
-                                String[] parts = field.split("\\.");
-                                String basePath = parts[0];
-
-                                // Check if base path is a collection field
-                                if (finalCollectionFields.contains(basePath)) {
-                                    // LEFT Join the collection to include entities without collection values
-                                    path = root.join(basePath, JoinType.LEFT);
-                                    // Navigate to nested fields
-                                    for (int i = 1; i < parts.length; i++) {
-                                        path = path.get(parts[i]);
-                                    }
-                                } else {
-                                    // Regular nested path navigation
-                                    path = root;
-                                    for (String part : parts) {
-                                        path = path.get(part);
-                                    }
-                                }
-                            } else if (finalCollectionFields.contains(field)) {
-                                // Simple collection field (no nesting) - use LEFT JOIN
-                                path = root.join(field, JoinType.LEFT);
-                            } else {
-                                // Regular field
-                                path = root;
-                                for (String part : field.split("\\.")) {
-                                    path = path.get(part);
-                                }
-                            }
-
-                            // build per-field OR of variants (contains, startsWith, endsWith)
-                            Predicate[] variants = LikePredicateBuilder.buildLikeVariants(cb, path, searchValue);
-                            return cb.or(variants);
-                        })
-                        .toArray(Predicate[]::new);
-                return cb.or(preds);
+                Predicate[] preds = new Predicate[searchFields.size()];
+                for (int i = 0; i < preds.length; i++) {
+                    RepositoryQueryPlan.SearchField field = searchFields.get(i);
+                    SearchMode mode = forced != null ? forced : field.mode();
+                    // one predicate per field; collection fields become EXISTS or a shared join
+                    preds[i] = field.path().toPredicate(root, query, cb, path -> mode == SearchMode.FULL_TEXT
+                            ? fullTextSearch.toPredicate(cb, path, term)
+                            : LikePredicateBuilder.build(cb, path, term, mode));
+                }
+                return preds.length == 1 ? preds[0] : cb.or(preds);
             };
             spec = (spec == null) ? searchSpec : spec.and(searchSpec);
         }
-        
-        if (spec == null) {
-            return searchableRepo.findAll(pageable);
-        }
-
-        return searchableRepo.findAll(spec, pageable);
+        return spec;
     }
 }
@@ -3,10 +3,40 @@ package com.corems.common.utils.db.utils;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Query parameters for {@code SearchableRepository}.
+ *
+ * @param cursor    opaque keyset cursor from {@link CursorPage#getNextCursor()}; only read by
+ *                  {@code findAllByCursor}, where {@code page} is ignored
+ * @param countMode how the total is computed; {@link CountMode#EXACT} when empty
+ */
 public record QueryParams(
         Optional<Integer> page,
         Optional<Integer> pageSize,
         Optional<String> search,
         Optional<String> sort,
-        Optional<List<String>> filters
-) {}
+        Optional<List<String>> filters,
+        Optional<String> cursor,
+        Optional<CountMode> countMode
+) {
+    public QueryParams(Optional<Integer> page,
+                       Optional<Integer> pageSize,
+                       Optional<String> search,
+                       Optional<String> sort,
+                       Optional<List<String>> filters) {
+        this(page, pageSize, search, sort, filters, Optional.empty(), Optional.empty());
+    }
+
+    public QueryParams(Optional<Integer> page,
+                       Optional<Integer> pageSize,
+                       Optional<String> search,
+                       Optional<String> sort,
+                       Optional<List<String>> filters,
+                       Optional<String> cursor) {
+        this(page, pageSize, search, sort, filters, cursor, Optional.empty());
+    }
+
+    public QueryParams withCountMode(CountMode mode) {
+        return new QueryParams(page, pageSize, search, sort, filters, cursor, Optional.ofNullable(mode));
+    }
+}
@@ -0,0 +1,132 @@
+package com.corems.common.utils.db.utils;
+
+import com.corems.common.utils.db.repo.SearchableRepository;
+import com.corems.common.utils.db.spec.CollectionJoinStrategy;
+import com.corems.common.utils.db.spec.FieldPath;
+import com.corems.common.utils.db.spec.FilterExpression;
+import com.corems.common.utils.db.spec.FilterRequest;
+import com.corems.common.utils.db.spec.FullTextSearch;
+import com.corems.common.utils.db.spec.SearchMode;
+import com.corems.common.utils.db.spec.SpecificationBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Repository metadata compiled once per repository, plus the {@link FilterPlan}s for the filter
+ * signatures seen so far.
+ * <p>
+ * The {@code SearchableRepository} metadata methods are expected to return constant values, as
+ * they are read only on first use. Filter plans are keyed by the ordered (field, op) pairs of a
+ * request; list screens send few distinct combinations, and the map is cleared if it grows past
+ * {@link #MAX_FILTER_PLANS}.
+ */
+final class RepositoryQueryPlan {
+    static final int MAX_FILTER_PLANS = 256;
+
+    private static final Map<Class<?>, RepositoryQueryPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final List<String> allowedFilterFields;
+    private final Map<String, String> aliases;
+    private final List<String> collectionFields;
+    private final CollectionJoinStrategy collectionJoinStrategy;
+    private final List<SearchField> searchFields;
+    private final FullTextSearch fullTextSearch;
+    private final Map<String, FilterPlan> filterPlans = new ConcurrentHashMap<>();
+
+    private RepositoryQueryPlan(SearchableRepository<?, ?> searchableRepo) {
+        this.allowedFilterFields = List.copyOf(searchableRepo.getAllowedFilterFields());
+        this.aliases = Map.copyOf(searchableRepo.getFieldAliases());
+        this.collectionFields = List.copyOf(searchableRepo.getCollectionFields());
+        this.collectionJoinStrategy = Objects.requireNonNullElse(searchableRepo.getCollectionJoinStrategy(), CollectionJoinStrategy.EXISTS);
+        Map<String, SearchMode> searchModes = searchableRepo.getSearchModes();
+        this.searchFields = searchableRepo.getSearchFields().stream()
+                .filter(Objects::nonNull)
+                .map(f -> new SearchField(
+                        FieldPath.compile(aliases.getOrDefault(f, f), collectionFields, collectionJoinStrategy),
+                        searchModes.getOrDefault(f, SearchMode.CONTAINS)))
+                .toList();
+        this.fullTextSearch = Objects.requireNonNullElse(searchableRepo.getFullTextSearch(), FullTextSearch.LIKE);
+    }
+
+    record SearchField(FieldPath path, SearchMode mode) {}
+
+    static RepositoryQueryPlan of(SearchableRepository<?, ?> searchableRepo) {
+        return PLANS.computeIfAbsent(searchableRepo.getClass(), k -> new RepositoryQueryPlan(searchableRepo));
+    }
+
+    List<SearchField> searchFields() {
+        return searchFields;
+    }
+
+    FullTextSearch fullTextSearch() {
+        return fullTextSearch;
+    }
+
+    /**
+     * @throws com.corems.common.exception.ServiceException when a filter field is not allowed
+     */
+    FilterPlan filterPlan(List<FilterRequest> requests) {
+        String signature = signature(requests);
+        FilterPlan plan = filterPlans.get(signature);
+        if (plan != null) {
+            return plan;
+        }
+
+        // Validation throws before anything is cached, so rejected signatures are never stored
+        plan = compile(requests);
+        if (filterPlans.size() >= MAX_FILTER_PLANS) {
+            filterPlans.clear();
+        }
+        filterPlans.putIfAbsent(signature, plan);
+        return plan;
+    }
+
+    /**
+     * Resolves aliases and validates every term of {@code expression}, then compiles it into one
+     * specification. Expressions are compiled per request; their shapes vary too much to cache.
+     *
+     * @throws com.corems.common.exception.ServiceException when a filter field is not allowed
+     */
+    <T> Specification<T> compile(FilterExpression expression) {
+        return SpecificationBuilder.build(resolve(expression), collectionFields, collectionJoinStrategy);
+    }
+
+    private FilterExpression resolve(FilterExpression expression) {
+        return switch (expression) {
+            case FilterExpression.Term term -> {
+                FilterRequest request = term.filter();
+                String apiField = request.field();
+                String resolved = aliases.getOrDefault(apiField, apiField);
+                FilterUtil.validate(apiField, resolved, allowedFilterFields);
+                yield new FilterExpression.Term(new FilterRequest(resolved, request.op(), request.value()));
+            }
+            case FilterExpression.And and -> new FilterExpression.And(and.operands().stream().map(this::resolve).toList());
+            case FilterExpression.Or or -> new FilterExpression.Or(or.operands().stream().map(this::resolve).toList());
+            case FilterExpression.Not not -> new FilterExpression.Not(resolve(not.operand()));
+        };
+    }
+
+    private FilterPlan compile(List<FilterRequest> requests) {
+        List<FilterPlan.CompiledFilter> compiled = new ArrayList<>(requests.size());
+        for (FilterRequest request : requests) {
+            String apiField = request.field();
+            String resolved = aliases.getOrDefault(apiField, apiField);
+            FilterUtil.validate(apiField, resolved, allowedFilterFields);
+            compiled.add(new FilterPlan.CompiledFilter(resolved, request.op(), FieldPath.compile(resolved, collectionFields, collectionJoinStrategy)));
+        }
+        return new FilterPlan(List.copyOf(compiled));
+    }
+
+    private static String signature(List<FilterRequest> requests) {
+        StringBuilder sb = new StringBuilder();
+        for (FilterRequest request : requests) {
+            sb.append(request.field()).append(':').append(request.op().ordinal()).append(',');
+        }
+        return sb.toString();
+    }
+}
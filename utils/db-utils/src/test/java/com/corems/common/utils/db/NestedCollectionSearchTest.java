@@ -4,6 +4,8 @@ import com.corems.common.utils.db.entity.TestCategoryEntity;
 import com.corems.common.utils.db.entity.TestProductEntity;
 import com.corems.common.utils.db.repo.TestProductRepository;
 import com.corems.common.utils.db.utils.QueryParams;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +36,9 @@ public class NestedCollectionSearchTest {
     @Autowired
     private TestProductRepository productRepo;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private TestCategoryEntity electronics;
     private TestCategoryEntity computers;
     private TestCategoryEntity accessories;
@@ -241,6 +246,87 @@ public class NestedCollectionSearchTest {
                 .anyMatch(p -> p.getName().contains("Wireless"));
     }
 
+    @Test
+    void searchWithPrefixModeField() {
+        // sku is configured for prefix search
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.of("lp-0"), Optional.empty(), Optional.empty());
+        Page<TestProductEntity> page = productRepo.findAllByQueryParams(params);
+        assertThat(page.getContent()).isNotEmpty().allMatch(p -> p.getName().equals("Laptop Pro"));
+
+        params = new QueryParams(Optional.of(1), Optional.of(10), Optional.of("-001"), Optional.empty(), Optional.empty());
+        assertThat(productRepo.findAllByQueryParams(params).getContent()).isEmpty();
+    }
+
+    @Test
+    void searchWithFullTextField_UsesLikeFallback() {
+        // name is a full-text field; without a PostgreSQL strategy it matches as contains
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.of("keyboard"), Optional.empty(), Optional.empty());
+        Page<TestProductEntity> page = productRepo.findAllByQueryParams(params);
+        assertThat(page.getContent()).isNotEmpty().allMatch(p -> p.getName().equals("Mechanical Keyboard"));
+    }
+
+    @Test
+    void searchMatchingSeveralCollectionElements_ReturnsEachProductOnce() {
+        // "o" matches several categories and tags of every product; EXISTS keeps one row per product
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.of("o"), Optional.empty(), Optional.empty());
+
+        Page<TestProductEntity> page = productRepo.findAllByQueryParams(params);
+
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent()).hasSize(4).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void filtersOnSameCollection_MatchAnyElementEach() {
+        // Laptop is in Electronics and in Computers (different elements)
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(),
+                Optional.of(List.of("categories.name:eq:Electronics", "categories.code:eq:COMP")));
+
+        Page<TestProductEntity> page = productRepo.findAllByQueryParams(params);
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).extracting(TestProductEntity::getName).containsExactly("Laptop Pro");
+    }
+
+    @Test
+    void filterExpression_OrAcrossCollections_ReturnsEachProductOnce() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.of("name:asc"),
+                Optional.of(List.of("(categories.code:eq:COMP|tags:eq:gaming)")));
+
+        Page<TestProductEntity> page = productRepo.findAllByQueryParams(params);
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(TestProductEntity::getName)
+                .containsExactly("Desktop PC", "Laptop Pro", "Mechanical Keyboard");
+    }
+
+    @Test
+    void filterExpression_NegatedCollectionTerm_ExcludesAnyMatchingElement() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.of("name:asc"),
+                Optional.of(List.of("!tags:eq:business")));
+
+        Page<TestProductEntity> page = productRepo.findAllByQueryParams(params);
+
+        assertThat(page.getContent()).extracting(TestProductEntity::getName)
+                .containsExactly("Mechanical Keyboard", "Wireless Mouse");
+    }
+
+    @Test
+    void filterByNestedIsNull_MatchesProductWithoutCategories() {
+        productRepo.save(new TestProductEntity("Gift Card", "GC-001", new BigDecimal("50.00")));
+
+        QueryParams isNull = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.of("name:asc"),
+                Optional.of(List.of("categories.name:isnull:true")));
+        assertThat(productRepo.findAllByQueryParams(isNull).getContent()).extracting(TestProductEntity::getName)
+                .containsExactly("Gift Card");
+
+        QueryParams isNotNull = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.of("name:asc"),
+                Optional.of(List.of("categories.name:isnull:false")));
+        assertThat(productRepo.findAllByQueryParams(isNotNull).getContent()).extracting(TestProductEntity::getName)
+                .doesNotContain("Gift Card")
+                .hasSize(4);
+    }
+
     @Test
     void combinedSearchAndNestedFilter() {
         // Search for "Pro" and filter by category
@@ -325,5 +411,22 @@ public class NestedCollectionSearchTest {
         Page<TestProductEntity> page2 = productRepo.findAllByQueryParams(params2);
         assertThat(page2.getContent()).hasSize(1);
     }
+
+    @Test
+    void fetchGraph_LoadsCategoriesInPageOrder() {
+        entityManager.flush();
+        entityManager.clear();
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(3), Optional.empty(),
+                Optional.of("name:desc"), Optional.empty());
+
+        Page<TestProductEntity> page = productRepo.findAllByQueryParams(params);
+
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent()).extracting(TestProductEntity::getName)
+                .containsExactly("Wireless Mouse", "Mechanical Keyboard", "Laptop Pro");
+        assertThat(page.getContent()).allMatch(p -> Hibernate.isInitialized(p.getCategories()));
+        assertThat(page.getContent().get(2).getCategories()).extracting(TestCategoryEntity::getName)
+                .containsExactlyInAnyOrder("Electronics", "Computers");
+    }
 }
 
@@ -3,7 +3,11 @@ package com.corems.common.utils.db;
 import com.corems.common.exception.ServiceException;
 import com.corems.common.utils.db.entity.TestEntity;
 import com.corems.common.utils.db.repo.TestEntityRepository;
+import com.corems.common.utils.db.utils.CountMode;
+import com.corems.common.utils.db.utils.CursorPage;
+import com.corems.common.utils.db.utils.PaginatedQueryExecutor;
 import com.corems.common.utils.db.utils.QueryParams;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,10 +15,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 
@@ -29,6 +37,9 @@ class SearchableRepositoryTest {
     @Autowired
     private TestEntityRepository repo;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         repo.deleteAll();
@@ -104,6 +115,248 @@ class SearchableRepositoryTest {
         assertThat(page.getTotalElements()).isEqualTo(1);
     }
 
+    @Test
+    void filterByLikeKeepsWildcards() {
+        // "_" matches any one character: "ali" in Alice
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(), Optional.of(List.of("firstName:like:a_i")));
+        Page<TestEntity> page = repo.findAllByQueryParams(params);
+        assertThat(page.getContent()).extracting(TestEntity::getEmail).containsExactly("alice@example.com");
+
+        // "%" spans any run: "c" ... "ol" in Carol
+        params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(), Optional.of(List.of("firstName:like:c%ol")));
+        page = repo.findAllByQueryParams(params);
+        assertThat(page.getContent()).extracting(TestEntity::getEmail).containsExactly("carol@example.com");
+    }
+
+    @Test
+    void findAllByCursor_WalksAllRowsInSortOrder() {
+        repo.save(new TestEntity("dave@example.com","Dave","Digger","local", OffsetDateTime.of(2024,6,1,0,0,0,0, ZoneOffset.UTC).toInstant(), 50.0, true));
+
+        List<String> emails = new ArrayList<>();
+        Optional<String> cursor = Optional.empty();
+        int slices = 0;
+        do {
+            QueryParams params = new QueryParams(Optional.empty(), Optional.of(1), Optional.empty(), Optional.of("balance:desc"), Optional.empty(), cursor);
+            CursorPage<TestEntity> slice = repo.findAllByCursor(params);
+            slice.forEach(e -> emails.add(e.getEmail()));
+            assertThat(slice.hasNext()).isEqualTo(slice.getNextCursor() != null);
+            cursor = Optional.ofNullable(slice.getNextCursor());
+            slices++;
+        } while (cursor.isPresent());
+
+        // bob and dave tie on balance and are ordered by id
+        assertThat(emails).containsExactly("carol@example.com", "alice@example.com", "bob@example.com", "dave@example.com");
+        assertThat(slices).isEqualTo(4);
+    }
+
+    @Test
+    void findAllByCursor_AppliesFiltersToEverySlice() {
+        QueryParams first = new QueryParams(Optional.empty(), Optional.of(1), Optional.empty(), Optional.of("createdAt:asc"), Optional.of(List.of("provider:eq:local")), Optional.empty());
+        CursorPage<TestEntity> slice = repo.findAllByCursor(first);
+        assertThat(slice.getContent()).extracting(TestEntity::getEmail).containsExactly("alice@example.com");
+
+        QueryParams next = new QueryParams(Optional.empty(), Optional.of(1), Optional.empty(), Optional.of("createdAt:asc"), Optional.of(List.of("provider:eq:local")), Optional.of(slice.getNextCursor()));
+        slice = repo.findAllByCursor(next);
+        assertThat(slice.getContent()).extracting(TestEntity::getEmail).containsExactly("carol@example.com");
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.getNextCursor()).isNull();
+    }
+
+    @Test
+    void findAllByCursor_WithNullSortValues_WalksEveryRowOnce() {
+        repo.save(new TestEntity("dave@example.com","Dave","Digger","local", null, null, true));
+        repo.save(new TestEntity("erin@example.com","Erin","Eagle","local", null, null, true));
+
+        // Nulls sort as the largest value: last ascending, first descending, ties by id
+        assertThat(walkByCursor("balance:asc", 1))
+                .containsExactly("bob@example.com", "alice@example.com", "carol@example.com", "dave@example.com", "erin@example.com");
+        assertThat(walkByCursor("balance:desc", 1))
+                .containsExactly("dave@example.com", "erin@example.com", "carol@example.com", "alice@example.com", "bob@example.com");
+        assertThat(walkByCursor("createdAt:asc", 2))
+                .containsExactly("alice@example.com", "bob@example.com", "carol@example.com", "dave@example.com", "erin@example.com");
+    }
+
+    @Test
+    void findAllByCursor_WithCursorFromOtherSort_ThrowsServiceException() {
+        CursorPage<TestEntity> slice = repo.findAllByCursor(new QueryParams(Optional.empty(), Optional.of(1), Optional.empty(), Optional.of("email:asc"), Optional.empty(), Optional.empty()));
+
+        QueryParams params = new QueryParams(Optional.empty(), Optional.of(1), Optional.empty(), Optional.of("balance:asc"), Optional.empty(), Optional.of(slice.getNextCursor()));
+        assertThatThrownBy(() -> repo.findAllByCursor(params)).isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    void findSliceByQueryParams_WithoutCount_ReturnsSlice() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(2), Optional.empty(), Optional.of("email:asc"), Optional.empty())
+                .withCountMode(CountMode.NONE);
+
+        Slice<TestEntity> slice = repo.findSliceByQueryParams(params);
+
+        assertThat(slice).isNotInstanceOf(Page.class);
+        assertThat(slice.getContent()).extracting(TestEntity::getEmail).containsExactly("alice@example.com", "bob@example.com");
+        assertThat(slice.hasNext()).isTrue();
+
+        slice = repo.findSliceByQueryParams(new QueryParams(Optional.of(2), Optional.of(2), Optional.empty(), Optional.of("email:asc"), Optional.empty())
+                .withCountMode(CountMode.NONE));
+        assertThat(slice.getContent()).extracting(TestEntity::getEmail).containsExactly("carol@example.com");
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    void findSliceByQueryParams_WithEstimatedCount_UsesEstimateOnlyWhenUnfiltered() {
+        QueryParams unfiltered = new QueryParams(Optional.of(1), Optional.of(1), Optional.empty(), Optional.empty(), Optional.empty())
+                .withCountMode(CountMode.ESTIMATED);
+        assertThat(((Page<TestEntity>) repo.findSliceByQueryParams(unfiltered)).getTotalElements()).isEqualTo(1000);
+
+        QueryParams filtered = new QueryParams(Optional.of(1), Optional.of(1), Optional.empty(), Optional.empty(), Optional.of(List.of("provider:eq:local")))
+                .withCountMode(CountMode.ESTIMATED);
+        assertThat(((Page<TestEntity>) repo.findSliceByQueryParams(filtered)).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void findSliceByQueryParams_WithEstimatedCountPastLastPage_ReturnsRealTotal() {
+        QueryParams params = new QueryParams(Optional.of(6), Optional.of(10), Optional.empty(), Optional.empty(), Optional.of(List.of("provider:eq:local")))
+                .withCountMode(CountMode.ESTIMATED);
+
+        Page<TestEntity> page = (Page<TestEntity>) repo.findSliceByQueryParams(params);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getTotalPages()).isEqualTo(1);
+    }
+
+    @Test
+    void findAllByQueryParams_WithoutCount_ThrowsException() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(), Optional.empty())
+                .withCountMode(CountMode.NONE);
+
+        assertThatThrownBy(() -> repo.findAllByQueryParams(params)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    interface EmailView {
+        String getEmail();
+    }
+
+    record NameView(String firstName, String lastName) {}
+
+    @Test
+    void findAllByQueryParams_WithInterfaceProjection_AppliesFilterAndSort() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.of("email:desc"),
+                Optional.of(List.of("provider:eq:local")));
+
+        Page<EmailView> page = repo.findAllByQueryParams(params, EmailView.class);
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(EmailView::getEmail).containsExactly("carol@example.com", "alice@example.com");
+    }
+
+    @Test
+    void findAllByQueryParams_WithDtoProjection_AppliesSearch() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.of("bob"), Optional.empty(), Optional.empty())
+                .withCountMode(CountMode.ESTIMATED);
+
+        Page<NameView> page = repo.findAllByQueryParams(params, NameView.class);
+
+        assertThat(page.getContent()).containsExactly(new NameView("Bob", "Builder"));
+    }
+
+    @Test
+    void streamByQueryParams_ReturnsAllMatchingRowsIgnoringPageSize() {
+        QueryParams params = new QueryParams(Optional.of(2), Optional.of(1), Optional.empty(), Optional.of("balance:desc"),
+                Optional.of(List.of("provider:eq:local")));
+
+        try (Stream<TestEntity> rows = repo.streamByQueryParams(params)) {
+            assertThat(rows.map(TestEntity::getEmail)).containsExactly("carol@example.com", "alice@example.com");
+        }
+        try (Stream<EmailView> rows = repo.streamByQueryParams(params, EmailView.class)) {
+            assertThat(rows.map(EmailView::getEmail)).containsExactly("carol@example.com", "alice@example.com");
+        }
+    }
+
+    @Test
+    void forEachByQueryParams_ClearsPersistenceContextInBatches() {
+        QueryParams params = new QueryParams(Optional.empty(), Optional.empty(), Optional.empty(), Optional.of("email:asc"), Optional.empty());
+        List<TestEntity> seen = new ArrayList<>();
+
+        PaginatedQueryExecutor.forEach(repo, params, entityManager, 2, seen::add);
+
+        assertThat(seen).extracting(TestEntity::getEmail).containsExactly("alice@example.com", "bob@example.com", "carol@example.com");
+        assertThat(entityManager.contains(seen.get(0))).isFalse();
+        assertThat(entityManager.contains(seen.get(1))).isFalse();
+        assertThat(entityManager.contains(seen.get(2))).isTrue();
+    }
+
+    @Test
+    void filterExpression_WithOrGroup_MatchesEitherBranch() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.of("email:asc"),
+                Optional.of(List.of("(provider:eq:oauth|balance:gt:150)")));
+
+        Page<TestEntity> page = repo.findAllByQueryParams(params);
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(TestEntity::getEmail).containsExactly("bob@example.com", "carol@example.com");
+    }
+
+    @Test
+    void filterExpression_WithNegationAndPlainTerm_AndsEntries() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(),
+                Optional.of(List.of("provider:eq:local", "!(firstName:startswith:Car)")));
+
+        assertThat(repo.findAllByQueryParams(params).getContent()).extracting(TestEntity::getEmail).containsExactly("alice@example.com");
+    }
+
+    @Test
+    void filterExpression_WithDisallowedField_ThrowsServiceException() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(),
+                Optional.of(List.of("(provider:eq:local|secret:eq:x)")));
+
+        assertThatThrownBy(() -> repo.findAllByQueryParams(params)).isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    void filterByBetweenAndIsNull() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(),
+                Optional.of(List.of("balance:between:50,100.5")));
+        assertThat(repo.findAllByQueryParams(params).getTotalElements()).isEqualTo(2);
+
+        repo.save(new TestEntity("dave@example.com", "Dave", "Digger", "local"));
+        params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(),
+                Optional.of(List.of("createdAt:isnull:true")));
+        assertThat(repo.findAllByQueryParams(params).getContent()).extracting(TestEntity::getEmail).containsExactly("dave@example.com");
+
+        params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(),
+                Optional.of(List.of("createdAt:isnull:false")));
+        assertThat(repo.findAllByQueryParams(params).getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void searchWithTrailingStar_MatchesPrefixOnly() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.of("ali*"), Optional.empty(), Optional.empty());
+        assertThat(repo.findAllByQueryParams(params).getContent()).extracting(TestEntity::getEmail).containsExactly("alice@example.com");
+
+        params = new QueryParams(Optional.of(1), Optional.of(10), Optional.of("lice*"), Optional.empty(), Optional.empty());
+        assertThat(repo.findAllByQueryParams(params).getTotalElements()).isZero();
+
+        params = new QueryParams(Optional.of(1), Optional.of(10), Optional.of("lice"), Optional.empty(), Optional.empty());
+        assertThat(repo.findAllByQueryParams(params).getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void searchWithWildcardCharacters_MatchesLiterally() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.of("%"), Optional.empty(), Optional.empty());
+        assertThat(repo.findAllByQueryParams(params).getTotalElements()).isZero();
+    }
+
+    @Test
+    void filterWithSameSignature_BindsNewValues() {
+        QueryParams params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(), Optional.of(List.of("provider:eq:local")));
+        assertThat(repo.findAllByQueryParams(params).getTotalElements()).isEqualTo(2);
+
+        params = new QueryParams(Optional.of(1), Optional.of(10), Optional.empty(), Optional.empty(), Optional.of(List.of("provider:eq:oauth")));
+        Page<TestEntity> page = repo.findAllByQueryParams(params);
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent().get(0).getEmail()).isEqualTo("bob@example.com");
+    }
+
      @Test
      void rejectUnknownFilterField() {
         QueryParams params = new QueryParams(
@@ -120,4 +373,16 @@ class SearchableRepositoryTest {
              assertThat(ex.getMessage()).contains("Provided value is invalid");
          }
      }
- }
+
+    private List<String> walkByCursor(String sort, int pageSize) {
+        List<String> emails = new ArrayList<>();
+        Optional<String> cursor = Optional.empty();
+        do {
+            QueryParams params = new QueryParams(Optional.empty(), Optional.of(pageSize), Optional.empty(), Optional.of(sort), Optional.empty(), cursor);
+            CursorPage<TestEntity> slice = repo.findAllByCursor(params);
+            slice.forEach(e -> emails.add(e.getEmail()));
+            cursor = Optional.ofNullable(slice.getNextCursor());
+        } while (cursor.isPresent());
+        return emails;
+    }
+}
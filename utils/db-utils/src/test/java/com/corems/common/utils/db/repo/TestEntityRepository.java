@@ -14,4 +14,8 @@ public interface TestEntityRepository extends SearchableRepository<TestEntity, L
     @Override
     default List<String> getAllowedSortFields() { return List.of("email", "firstName", "lastName", "createdAt", "balance"); }
 
+    // Stands in for a pg_class statistics query
+    @Override
+    default Long estimateRowCount() { return 1000L; }
+
 }
@@ -1,6 +1,7 @@
 package com.corems.common.utils.db.repo;
 
 import com.corems.common.utils.db.entity.TestProductEntity;
+import com.corems.common.utils.db.spec.SearchMode;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,6 +15,11 @@ public interface TestProductRepository extends SearchableRepository<TestProductE
         return List.of("name", "sku", "categories.name", "tags");
     }
 
+    @Override
+    default Map<String, SearchMode> getSearchModes() {
+        return Map.of("sku", SearchMode.PREFIX, "name", SearchMode.FULL_TEXT);
+    }
+
     @Override
     default List<String> getAllowedFilterFields() {
         return List.of("name", "price", "categories.name", "categories.code", "categories.id", "tags");
@@ -29,6 +35,11 @@ public interface TestProductRepository extends SearchableRepository<TestProductE
         return List.of("categories", "tags");
     }
 
+    @Override
+    default List<String> getFetchGraph() {
+        return List.of("categories");
+    }
+
     @Override
     default Map<String, String> getFieldAliases() {
         return Map.of("category", "categories.name");
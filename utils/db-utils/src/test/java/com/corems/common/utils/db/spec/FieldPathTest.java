@@ -0,0 +1,94 @@
+package com.corems.common.utils.db.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.Attribute;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+class FieldPathTest {
+
+    private final Root root = mock(Root.class);
+    private final CriteriaQuery query = mock(CriteriaQuery.class);
+    private final CriteriaBuilder cb = mock(CriteriaBuilder.class);
+    private final Predicate predicate = mock(Predicate.class);
+
+    @Test
+    void compileSplitsPathAndDetectsCollection() {
+        FieldPath path = FieldPath.compile("categories.name", List.of("categories"));
+
+        assertThat(path.parts()).containsExactly("categories", "name");
+        assertThat(path.joinFirst()).isTrue();
+        assertThat(path.strategy()).isEqualTo(CollectionJoinStrategy.EXISTS);
+        assertThat(FieldPath.compile("price", List.of("categories")).joinFirst()).isFalse();
+    }
+
+    @Test
+    void toPredicateWithExistsStrategyUsesCorrelatedSubquery() {
+        Subquery subquery = mock(Subquery.class);
+        Root correlated = mock(Root.class);
+        Join element = mock(Join.class);
+        Path name = mock(Path.class);
+        Predicate exists = mock(Predicate.class);
+        when(query.subquery(Integer.class)).thenReturn(subquery);
+        when(subquery.correlate(root)).thenReturn(correlated);
+        when(correlated.join("categories")).thenReturn(element);
+        when(element.get("name")).thenReturn(name);
+        when(subquery.select(any())).thenReturn(subquery);
+        when(subquery.where(any(Expression.class))).thenReturn(subquery);
+        when(cb.exists(subquery)).thenReturn(exists);
+
+        Predicate result = FieldPath.compile("categories.name", List.of("categories"))
+                .toPredicate(root, query, cb, p -> p == name ? predicate : null);
+
+        assertThat(result).isSameAs(exists);
+        verify(subquery).where(predicate);
+        verify(root, never()).join(anyString(), any(JoinType.class));
+    }
+
+    @Test
+    void toPredicateWithJoinStrategyReusesExistingJoin() {
+        Join join = mock(Join.class);
+        Attribute attribute = mock(Attribute.class);
+        Path name = mock(Path.class);
+        when(attribute.getName()).thenReturn("categories");
+        when(join.getAttribute()).thenReturn(attribute);
+        when(join.getJoinType()).thenReturn(JoinType.LEFT);
+        when(join.get("name")).thenReturn(name);
+        when(root.getJoins()).thenReturn(Set.of(join));
+
+        FieldPath path = FieldPath.compile("categories.name", List.of("categories"), CollectionJoinStrategy.JOIN);
+        Predicate result = path.toPredicate(root, query, cb, p -> p == name ? predicate : null);
+
+        assertThat(result).isSameAs(predicate);
+        verify(root, never()).join(anyString(), any(JoinType.class));
+        verify(query, never()).subquery(any(Class.class));
+    }
+
+    @Test
+    void toPredicateOnPlainFieldNavigatesRoot() {
+        Path price = mock(Path.class);
+        when(root.get("price")).thenReturn(price);
+
+        Predicate result = FieldPath.compile("price", List.of("categories"))
+                .toPredicate(root, query, cb, p -> p == price ? predicate : null);
+
+        assertThat(result).isSameAs(predicate);
+        verifyNoInteractions(query);
+    }
+}
@@ -0,0 +1,91 @@
+package com.corems.common.utils.db.spec;
+
+import com.corems.common.utils.db.entity.TestEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PostgresFullTextSearchTest {
+
+    private static final List<String> statements = new ArrayList<>();
+    private static SessionFactory sessionFactory;
+
+    // PostgreSQL dialect over H2: only the rendered SQL is checked, H2 cannot run the operators
+    @BeforeAll
+    static void setUp() {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(TestEntity.class)
+                .setProperty("hibernate.dialect", PostgreSQLDialect.class.getName())
+                .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:fts;MODE=PostgreSQL")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "none");
+        configuration.setStatementInspector(sql -> {
+            statements.add(sql);
+            return sql;
+        });
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void constructorAcceptsConfigurationName() {
+        assertThat(new PostgresFullTextSearch("pg_catalog.english").config()).isEqualTo("pg_catalog.english");
+    }
+
+    @Test
+    void constructorRejectsConfigurationThatIsNotAnIdentifier() {
+        assertThatThrownBy(() -> new PostgresFullTextSearch("english') OR true --"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PostgresFullTextSearch(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fullTextSearchRendersTsQueryMatchOnTheColumn() {
+        String sql = render(new PostgresFullTextSearch("simple"));
+
+        // The column must appear bare inside to_tsvector so an expression index can serve the match
+        assertThat(sql).containsPattern(
+                "to_tsvector\\(cast\\('simple' as regconfig\\), *\\w+\\.firstName\\) @@ plainto_tsquery\\(cast\\('simple' as regconfig\\), *\\?\\)");
+    }
+
+    @Test
+    void trigramSearchRendersSimilarityOperatorOnLowerColumn() {
+        String sql = render(PostgresTrigramSearch.INSTANCE);
+
+        assertThat(sql).containsPattern("lower\\(\\w+\\.firstName\\) % lower\\(\\?\\)");
+    }
+
+    private static String render(FullTextSearch search) {
+        statements.clear();
+        try (Session session = sessionFactory.openSession()) {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<TestEntity> query = cb.createQuery(TestEntity.class);
+            Root<TestEntity> root = query.from(TestEntity.class);
+            query.where(search.toPredicate(cb, root.get("firstName"), "alice"));
+
+            catchThrowable(() -> session.createQuery(query).getResultList());
+        }
+        assertThat(statements).hasSize(1);
+        return statements.get(0);
+    }
+}
@@ -0,0 +1,51 @@
+package com.corems.common.utils.db.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountCacheTest {
+
+    @AfterEach
+    void tearDown() {
+        CountCache.clear();
+    }
+
+    @Test
+    void get_WithinTtl_CountsOnce() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals(42, CountCache.get("repo|EXACT||[]", Duration.ofMinutes(1), () -> { calls.incrementAndGet(); return 42; }));
+        assertEquals(42, CountCache.get("repo|EXACT||[]", Duration.ofMinutes(1), () -> { calls.incrementAndGet(); return 7; }));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void get_WithDifferentSignature_CountsAgain() {
+        CountCache.get("repo|EXACT||[status:ACTIVE]", Duration.ofMinutes(1), () -> 10);
+
+        assertEquals(3, CountCache.get("repo|EXACT||[status:DELETED]", Duration.ofMinutes(1), () -> 3));
+    }
+
+    @Test
+    void get_WithZeroTtl_AlwaysCounts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        CountCache.get("repo", Duration.ZERO, calls::incrementAndGet);
+        CountCache.get("repo", Duration.ZERO, calls::incrementAndGet);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void get_AfterExpiry_CountsAgain() throws Exception {
+        CountCache.get("repo", Duration.ofMillis(1), () -> 1);
+        Thread.sleep(5);
+
+        assertEquals(2, CountCache.get("repo", Duration.ofMillis(1), () -> 2));
+    }
+}
@@ -1,6 +1,7 @@
 package com.corems.common.utils.db.utils;
 
 import com.corems.common.exception.ServiceException;
+import com.corems.common.utils.db.spec.FilterExpression;
 import com.corems.common.utils.db.spec.FilterOperation;
 import com.corems.common.utils.db.spec.FilterRequest;
 import org.junit.jupiter.api.Test;
@@ -265,4 +266,68 @@ class FilterUtilTest {
     void validate_WithNullAllowedList_DoesNotThrow() {
         assertDoesNotThrow(() -> FilterUtil.validate("anyField", "anyField", null));
     }
-}
\ No newline at end of file
+
+    @Test
+    void parse_WithNewOperators_MapsOperations() {
+        List<FilterRequest> result = FilterUtil.parse(List.of("price:between:10,20", "email:isnull:true", "name:startswith:Jo"));
+
+        assertEquals(FilterOperation.BETWEEN, result.get(0).op());
+        assertEquals("10,20", result.get(0).value());
+        assertEquals(FilterOperation.IS_NULL, result.get(1).op());
+        assertEquals(FilterOperation.STARTS_WITH, result.get(2).op());
+    }
+
+    @Test
+    void isExpression_WithGroupOrNegation_ReturnsTrue() {
+        assertTrue(FilterUtil.isExpression("(a:1|b:2)"));
+        assertTrue(FilterUtil.isExpression(" !a:1"));
+        assertFalse(FilterUtil.isExpression("name:eq:(draft)"));
+        assertFalse(FilterUtil.isExpression(null));
+    }
+
+    @Test
+    void parseExpression_WithAndBindingTighterThanOr_BuildsTree() {
+        FilterExpression result = FilterUtil.parseExpression("(a:eq:1|b:gt:2;!c:3)");
+
+        assertEquals(new FilterExpression.Or(List.of(
+                term("a", FilterOperation.EQUALS, "1"),
+                new FilterExpression.And(List.of(
+                        term("b", FilterOperation.GT, "2"),
+                        new FilterExpression.Not(term("c", FilterOperation.EQUALS, "3"))))
+        )), result);
+    }
+
+    @Test
+    void parseExpression_WithEscapedCharacters_KeepsThemInValue() {
+        FilterExpression result = FilterUtil.parseExpression("(name:eq:a\\|b\\;c\\)|name:in:x,y)");
+
+        assertEquals(new FilterExpression.Or(List.of(
+                term("name", FilterOperation.EQUALS, "a|b;c)"),
+                term("name", FilterOperation.IN, "x,y")
+        )), result);
+    }
+
+    @Test
+    void parseExpression_WithPlainAndExpressionEntries_AndsThem() {
+        FilterExpression result = FilterUtil.parseExpression(Arrays.asList("status:active", null, "!(tags:contains:x)"));
+
+        assertEquals(new FilterExpression.And(List.of(
+                term("status", FilterOperation.EQUALS, "active"),
+                new FilterExpression.Not(term("tags", FilterOperation.CONTAINS, "x"))
+        )), result);
+        assertNull(FilterUtil.parseExpression(List.of(" ")));
+    }
+
+    @Test
+    void parseExpression_WithMalformedInput_ThrowsServiceException() {
+        assertThrows(ServiceException.class, () -> FilterUtil.parseExpression("(a:1|b:2"));
+        assertThrows(ServiceException.class, () -> FilterUtil.parseExpression("(a:1|)"));
+        assertThrows(ServiceException.class, () -> FilterUtil.parseExpression("(a:1))"));
+        assertThrows(ServiceException.class, () -> FilterUtil.parseExpression("(onlyField)"));
+        assertThrows(ServiceException.class, () -> FilterUtil.parseExpression("(".repeat(100) + "a:1" + ")".repeat(100)));
+    }
+
+    private static FilterExpression term(String field, FilterOperation op, String value) {
+        return new FilterExpression.Term(new FilterRequest(field, op, value));
+    }
+}
@@ -0,0 +1,51 @@
+package com.corems.common.utils.db.utils;
+
+import com.corems.common.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    private static final String SORT = "createdAt: DESC,id: ASC";
+
+    @Test
+    void decode_WithEncodedValues_ReturnsSameValues() {
+        List<Object> values = Arrays.asList("a.b,c", 42L, 1.5d, new BigDecimal("10.25"), true,
+                Instant.parse("2024-01-01T00:00:00Z"), UUID.fromString("550e8400-e29b-41d4-a716-446655440000"), null);
+
+        String cursor = KeysetCursor.encode(SORT, values);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_.-]+"));
+        assertEquals(values, KeysetCursor.decode(cursor, SORT, values.size()));
+    }
+
+    @Test
+    void decode_WithEnumValue_ReturnsName() {
+        String cursor = KeysetCursor.encode(SORT, List.of(Thread.State.RUNNABLE, 1L));
+
+        assertEquals(List.of("RUNNABLE", 1L), KeysetCursor.decode(cursor, SORT, 2));
+    }
+
+    @Test
+    void decode_WithDifferentSort_ThrowsServiceException() {
+        String cursor = KeysetCursor.encode(SORT, List.of(Instant.now(), 1L));
+
+        assertThrows(ServiceException.class, () -> KeysetCursor.decode(cursor, "email: ASC,id: ASC", 2));
+    }
+
+    @Test
+    void decode_WithTamperedCursor_ThrowsServiceException() {
+        String cursor = KeysetCursor.encode(SORT, List.of(Instant.now(), 1L));
+
+        assertThrows(ServiceException.class, () -> KeysetCursor.decode(cursor + ".x", SORT, 2));
+        assertThrows(ServiceException.class, () -> KeysetCursor.decode(cursor.replace(".l", ".t"), SORT, 2));
+        assertThrows(ServiceException.class, () -> KeysetCursor.decode("garbage", SORT, 2));
+    }
+}
@@ -0,0 +1,73 @@
+package com.corems.common.utils.db.utils;
+
+import com.corems.common.exception.ServiceException;
+import com.corems.common.utils.db.repo.TestProductRepository;
+import com.corems.common.utils.db.spec.FieldPath;
+import com.corems.common.utils.db.spec.FilterOperation;
+import com.corems.common.utils.db.spec.FilterRequest;
+import com.corems.common.utils.db.spec.FullTextSearch;
+import com.corems.common.utils.db.spec.SearchMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RepositoryQueryPlanTest {
+
+    private final TestProductRepository repo = mock(TestProductRepository.class, CALLS_REAL_METHODS);
+
+    @Test
+    void filterPlan_WithSameSignature_ReusesPlan() {
+        RepositoryQueryPlan plan = RepositoryQueryPlan.of(repo);
+
+        FilterPlan first = plan.filterPlan(FilterUtil.parse(List.of("price:gt:10", "category:Books")));
+        FilterPlan second = plan.filterPlan(FilterUtil.parse(List.of("price:gt:99", "category:Games")));
+
+        assertSame(first, second);
+        assertSame(plan, RepositoryQueryPlan.of(repo));
+    }
+
+    @Test
+    void filterPlan_WithAliasAndCollection_ResolvesPathOnce() {
+        FilterPlan plan = RepositoryQueryPlan.of(repo).filterPlan(FilterUtil.parse(List.of("category:eq:Books")));
+
+        FilterPlan.CompiledFilter filter = plan.filters().get(0);
+        assertEquals("categories.name", filter.field());
+        assertEquals(FilterOperation.EQUALS, filter.op());
+        assertEquals(FieldPath.compile("categories.name", List.of("categories")), filter.path());
+        assertTrue(filter.path().joinFirst());
+    }
+
+    @Test
+    void filterPlan_WithDifferentOperation_CompilesNewPlan() {
+        RepositoryQueryPlan plan = RepositoryQueryPlan.of(repo);
+
+        assertNotSame(plan.filterPlan(List.of(new FilterRequest("price", FilterOperation.GT, "1"))),
+                plan.filterPlan(List.of(new FilterRequest("price", FilterOperation.LT, "1"))));
+    }
+
+    @Test
+    void filterPlan_WithUnknownField_ThrowsServiceException() {
+        RepositoryQueryPlan plan = RepositoryQueryPlan.of(repo);
+
+        assertThrows(ServiceException.class, () -> plan.filterPlan(FilterUtil.parse(List.of("password:eq:x"))));
+        assertThrows(ServiceException.class, () -> plan.filterPlan(FilterUtil.parse(List.of("password:eq:y"))));
+    }
+
+    @Test
+    void fullTextSearch_WithoutOverride_FallsBackToLike() {
+        assertSame(FullTextSearch.LIKE, RepositoryQueryPlan.of(repo).fullTextSearch());
+    }
+
+    @Test
+    void searchFields_ResolveAliasesCollectionsAndModes() {
+        List<RepositoryQueryPlan.SearchField> fields = RepositoryQueryPlan.of(repo).searchFields();
+
+        assertEquals(List.of("name", "sku", "categories.name", "tags"), fields.stream().map(f -> f.path().field()).toList());
+        assertEquals(List.of(false, false, true, true), fields.stream().map(f -> f.path().joinFirst()).toList());
+        assertEquals(List.of(SearchMode.FULL_TEXT, SearchMode.PREFIX, SearchMode.CONTAINS, SearchMode.CONTAINS),
+                fields.stream().map(RepositoryQueryPlan.SearchField::mode).toList());
+    }
+}
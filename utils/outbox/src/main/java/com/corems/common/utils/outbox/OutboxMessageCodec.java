@@ -0,0 +1,33 @@
+package com.corems.common.utils.outbox;
+
+import com.corems.common.queue.QueueMessage;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializes {@link QueueMessage}s with the same converter the queue clients use,
+ * so relayed messages are identical to directly sent ones.
+ */
+public class OutboxMessageCodec {
+
+    private final MessageConverter converter;
+
+    public OutboxMessageCodec(MessageConverter converter) {
+        this.converter = converter;
+    }
+
+    public String encode(QueueMessage message) {
+        Message encoded = converter.toMessage(message, new MessageProperties());
+        return new String(encoded.getBody(), StandardCharsets.UTF_8);
+    }
+
+    public QueueMessage decode(String body) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setInferredArgumentType(QueueMessage.class);
+        return (QueueMessage) converter.fromMessage(new Message(body.getBytes(StandardCharsets.UTF_8), properties));
+    }
+}
@@ -0,0 +1,56 @@
+package com.corems.common.utils.outbox;
+
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.queue.util.QueueMDCUtil;
+import com.corems.common.utils.outbox.entity.OutboxMessageEntity;
+import com.corems.common.utils.outbox.entity.OutboxStatus;
+import com.corems.common.utils.outbox.repo.OutboxStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Drop-in replacement for {@code QueueClient.send} inside JPA transactions.
+ * <p>
+ * Messages are inserted into the outbox table within the caller's transaction, so they are
+ * committed or rolled back together with the entity changes. {@link OutboxRelay} publishes
+ * them afterwards. Calling outside a transaction is rejected.
+ */
+@Slf4j
+public class OutboxPublisher {
+
+    private final OutboxStore store;
+    private final OutboxMessageCodec codec;
+
+    public OutboxPublisher(OutboxStore store, OutboxMessageCodec codec) {
+        this.store = store;
+        this.codec = codec;
+    }
+
+    /**
+     * Queue a message for the client's default destination.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void send(QueueMessage message) {
+        send(null, message);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void send(String destination, QueueMessage message) {
+        // Capture correlation and tracing context now, the relay runs on another thread
+        QueueMDCUtil.prepareMessageForSending(message);
+
+        OutboxMessageEntity entity = new OutboxMessageEntity();
+        entity.setMessageId(message.getId());
+        entity.setMessageType(message.getType());
+        entity.setDestination(destination == null || destination.isBlank() ? null : destination);
+        entity.setBody(codec.encode(message));
+        entity.setStatus(OutboxStatus.PENDING);
+        entity.setCreatedAt(Instant.now());
+        store.insert(entity);
+
+        log.debug("Stored outbox message id={} destination={}", message.getId(), entity.getDestination());
+    }
+}
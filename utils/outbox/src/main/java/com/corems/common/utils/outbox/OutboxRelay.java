@@ -0,0 +1,205 @@
+package com.corems.common.utils.outbox;
+
+import com.corems.common.queue.QueueClient;
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.queue.QueueProvider;
+import com.corems.common.utils.outbox.config.OutboxProperties;
+import com.corems.common.utils.outbox.entity.OutboxMessageEntity;
+import com.corems.common.utils.outbox.repo.OutboxStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Background publisher for the outbox table.
+ * <p>
+ * Each run claims a batch of pending rows, publishes them per destination with
+ * {@link QueueClient#sendBatch(String, List)} outside the claiming transaction and marks the
+ * published rows SENT with a single bulk update. Delivery is at-least-once: a crash between
+ * publishing and recording the outcome republishes the batch once its claim expires.
+ */
+@Slf4j
+public class OutboxRelay implements AutoCloseable {
+
+    private static final String DEFAULT_DESTINATION = "";
+
+    private final OutboxStore store;
+    private final OutboxMessageCodec codec;
+    private final QueueProvider queueProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ScheduledExecutorService scheduler;
+
+    public OutboxRelay(OutboxStore store, OutboxMessageCodec codec, QueueProvider queueProvider,
+                       TransactionTemplate transactionTemplate, OutboxProperties properties) {
+        this.store = store;
+        this.codec = codec;
+        this.queueProvider = queueProvider;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "outbox-relay");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public void start() {
+        if (running.compareAndSet(false, true)) {
+            scheduler.scheduleWithFixedDelay(this::drain, 0,
+                    properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+            scheduler.scheduleWithFixedDelay(this::cleanup, properties.getCleanupInterval().toMillis(),
+                    properties.getCleanupInterval().toMillis(), TimeUnit.MILLISECONDS);
+            log.info("OutboxRelay started with batchSize={}", properties.getBatchSize());
+        }
+    }
+
+    public void stop() {
+        if (running.compareAndSet(true, false)) {
+            try {
+                scheduler.shutdownNow();
+                if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                    log.warn("OutboxRelay executor did not terminate in time");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.info("OutboxRelay stopped");
+        }
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private void drain() {
+        try {
+            // Keep going while full batches are published, then wait for the next interval
+            while (running.get() && relayOnce() >= properties.getBatchSize()) {
+                if (Thread.currentThread().isInterrupted()) return;
+            }
+        } catch (Exception ex) {
+            log.error("Unexpected error in OutboxRelay", ex);
+        }
+    }
+
+    /**
+     * Publish one batch of pending messages.
+     * <p>
+     * Row locks are held only while the batch is claimed: a short transaction locks pending rows
+     * with SKIP LOCKED and sets {@code claimedUntil}, the broker sends run outside any transaction,
+     * and a second transaction records the outcome. A relay that dies mid-batch leaves its rows
+     * claimed until {@link OutboxProperties#getClaimTimeout()}, after which they are republished.
+     * Rows whose send failed stay hidden for an exponential backoff before they are retried.
+     *
+     * @return number of rows published
+     */
+    public int relayOnce() {
+        if (!queueProvider.isEnabled()) {
+            return 0;
+        }
+        QueueClient client = queueProvider.getDefaultClient();
+
+        List<OutboxMessageEntity> batch = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboxMessageEntity> locked = store.lockPendingBatch(properties.getBatchSize(), now);
+            store.claim(locked.stream().map(OutboxMessageEntity::getId).toList(), now.plus(properties.getClaimTimeout()));
+            return locked;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<OutboxMessageEntity>> byDestination = new LinkedHashMap<>();
+        List<Long> undecodable = new ArrayList<>();
+        Map<Long, QueueMessage> decoded = new LinkedHashMap<>();
+        for (OutboxMessageEntity entity : batch) {
+            try {
+                decoded.put(entity.getId(), codec.decode(entity.getBody()));
+                String key = entity.getDestination() == null ? DEFAULT_DESTINATION : entity.getDestination();
+                byDestination.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+            } catch (Exception ex) {
+                log.error("Cannot decode outbox message id={}", entity.getMessageId(), ex);
+                undecodable.add(entity.getId());
+            }
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        List<FailedSend> failures = new ArrayList<>();
+        for (Map.Entry<String, List<OutboxMessageEntity>> entry : byDestination.entrySet()) {
+            List<OutboxMessageEntity> entities = entry.getValue();
+            List<Long> ids = entities.stream().map(OutboxMessageEntity::getId).toList();
+            List<QueueMessage> messages = ids.stream().map(decoded::get).toList();
+            try {
+                if (DEFAULT_DESTINATION.equals(entry.getKey())) {
+                    client.sendBatch(messages);
+                } else {
+                    client.sendBatch(entry.getKey(), messages);
+                }
+                sentIds.addAll(ids);
+            } catch (Exception ex) {
+                log.warn("Failed to relay {} outbox message(s) to destination='{}': {}",
+                        ids.size(), entry.getKey(), ex.getMessage());
+                failures.add(new FailedSend(entities, ex.getMessage()));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            store.markFailed(undecodable, "Undecodable outbox body");
+            Instant now = Instant.now();
+            store.markSent(sentIds, now);
+            for (FailedSend failure : failures) {
+                // Rows of one send can be on different attempts, so group them by their next retry time
+                Map<Instant, List<Long>> byRetryAt = new LinkedHashMap<>();
+                for (OutboxMessageEntity entity : failure.entities()) {
+                    Instant retryAt = now.plus(backoff(entity.getAttempts() + 1));
+                    byRetryAt.computeIfAbsent(retryAt, k -> new ArrayList<>()).add(entity.getId());
+                }
+                byRetryAt.forEach((retryAt, ids) ->
+                        store.recordFailedAttempt(ids, failure.error(), properties.getMaxAttempts(), retryAt));
+            }
+        });
+
+        log.debug("Relayed {} of {} outbox message(s)", sentIds.size(), batch.size());
+        return sentIds.size();
+    }
+
+    /**
+     * Delay before retrying a row after its {@code attempt}-th failure: {@code retryBackoff * 2^(attempt - 1)},
+     * capped at {@code maxRetryBackoff}.
+     */
+    Duration backoff(int attempt) {
+        Duration max = properties.getMaxRetryBackoff();
+        Duration delay = properties.getRetryBackoff();
+        for (int i = 1; i < attempt && delay.compareTo(max) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    private record FailedSend(List<OutboxMessageEntity> entities, String error) {}
+
+    private void cleanup() {
+        try {
+            Instant cutoff = Instant.now().minus(properties.getRetention());
+            Integer deleted = transactionTemplate.execute(status -> store.deleteSentBefore(cutoff));
+            if (deleted != null && deleted > 0) {
+                log.info("Deleted {} sent outbox message(s) older than {}", deleted, cutoff);
+            }
+        } catch (Exception ex) {
+            log.error("Outbox cleanup failed", ex);
+        }
+    }
+}
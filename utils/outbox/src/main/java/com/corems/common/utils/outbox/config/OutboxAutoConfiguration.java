@@ -0,0 +1,57 @@
+package com.corems.common.utils.outbox.config;
+
+import com.corems.common.queue.QueueProvider;
+import com.corems.common.utils.outbox.OutboxMessageCodec;
+import com.corems.common.utils.outbox.OutboxPublisher;
+import com.corems.common.utils.outbox.OutboxRelay;
+import com.corems.common.utils.outbox.entity.OutboxMessageEntity;
+import com.corems.common.utils.outbox.repo.OutboxStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Registers the outbox entity with the service's persistence unit and wires publisher and relay.
+ * Services that declare their own {@code @EntityScan} must include {@code com.corems.common.utils.outbox.entity}.
+ */
+@AutoConfiguration
+@AutoConfigurationPackage(basePackageClasses = OutboxMessageEntity.class)
+@ConditionalOnProperty(prefix = "corems.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxStore outboxStore(EntityManagerFactory entityManagerFactory) {
+        return new OutboxStore(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxMessageCodec outboxMessageCodec(MessageConverter coremsJacksonMessageConverter) {
+        return new OutboxMessageCodec(coremsJacksonMessageConverter);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxPublisher outboxPublisher(OutboxStore outboxStore, OutboxMessageCodec outboxMessageCodec) {
+        return new OutboxPublisher(outboxStore, outboxMessageCodec);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnMissingBean
+    public OutboxRelay outboxRelay(OutboxStore outboxStore, OutboxMessageCodec outboxMessageCodec,
+                                   QueueProvider queueProvider, PlatformTransactionManager transactionManager,
+                                   OutboxProperties properties) {
+        return new OutboxRelay(outboxStore, outboxMessageCodec, queueProvider,
+                new TransactionTemplate(transactionManager), properties);
+    }
+}
@@ -0,0 +1,60 @@
+package com.corems.common.utils.outbox.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "corems.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether the outbox publisher and relay are created.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of rows locked and published per relay transaction.
+     */
+    private int batchSize = 100;
+
+    /**
+     * How long rows claimed by a relay run are hidden from other runs while they are published.
+     * Must exceed the time a batch takes to publish; rows whose claim expires are republished.
+     */
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    /**
+     * Delay between relay runs when the outbox is drained.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Publish attempts before a row is moved to FAILED.
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * Delay before a row is retried after its first failed publish; doubles with every further
+     * failed attempt up to {@link #maxRetryBackoff}.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /**
+     * Upper bound for the retry delay of a failed row.
+     */
+    private Duration maxRetryBackoff = Duration.ofMinutes(5);
+
+    /**
+     * How long SENT rows are kept before cleanup deletes them.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Delay between cleanup runs.
+     */
+    private Duration cleanupInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,62 @@
+package com.corems.common.utils.outbox.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * A serialized {@code QueueMessage} waiting to be published by the outbox relay.
+ */
+@Entity
+@Table(name = "corems_outbox", indexes = {
+        @Index(name = "idx_corems_outbox_status_id", columnList = "status, id")
+})
+@Getter
+@Setter
+public class OutboxMessageEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "message_id", nullable = false, length = 64)
+    private String messageId;
+
+    @Column(name = "message_type")
+    private String messageType;
+
+    // null means the queue client's default destination
+    private String destination;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    private int attempts;
+
+    @Column(name = "last_error", length = 1024)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    // Set while a relay run publishes the row outside its locking transaction
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+}
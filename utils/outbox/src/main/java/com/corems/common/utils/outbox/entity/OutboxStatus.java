@@ -0,0 +1,7 @@
+package com.corems.common.utils.outbox.entity;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
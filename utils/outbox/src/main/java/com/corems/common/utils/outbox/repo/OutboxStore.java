@@ -0,0 +1,123 @@
+package com.corems.common.utils.outbox.repo;
+
+import com.corems.common.utils.outbox.entity.OutboxMessageEntity;
+import com.corems.common.utils.outbox.entity.OutboxStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA access to the outbox table. Built on a shared {@link EntityManager} instead of a Spring Data
+ * repository so the module does not interfere with the service's own repository scanning.
+ */
+public class OutboxStore {
+
+    // Hibernate maps a lock timeout of -2 to SKIP LOCKED where the dialect supports it
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+    private static final int SKIP_LOCKED = -2;
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final EntityManager entityManager;
+
+    public OutboxStore(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public void insert(OutboxMessageEntity entity) {
+        entityManager.persist(entity);
+    }
+
+    /**
+     * Lock the oldest pending, unclaimed rows for the current transaction. Rows locked by another
+     * relay instance are skipped, so several service replicas can relay concurrently.
+     */
+    public List<OutboxMessageEntity> lockPendingBatch(int limit, Instant now) {
+        return entityManager.createQuery(
+                        "select o from OutboxMessageEntity o where o.status = :status"
+                                + " and (o.claimedUntil is null or o.claimedUntil < :now) order by o.id",
+                        OutboxMessageEntity.class)
+                .setParameter("status", OutboxStatus.PENDING)
+                .setParameter("now", now)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, SKIP_LOCKED)
+                .getResultList();
+    }
+
+    /**
+     * Hide rows from {@link #lockPendingBatch} until {@code until}, so they can be published after
+     * the locking transaction commits.
+     */
+    public int claim(Collection<Long> ids, Instant until) {
+        if (ids.isEmpty()) return 0;
+        return entityManager.createQuery(
+                        "update OutboxMessageEntity o set o.claimedUntil = :until where o.id in :ids")
+                .setParameter("until", until)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    public int markSent(Collection<Long> ids, Instant sentAt) {
+        if (ids.isEmpty()) return 0;
+        return entityManager.createQuery(
+                        "update OutboxMessageEntity o set o.status = :status, o.sentAt = :sentAt, o.attempts = o.attempts + 1, o.claimedUntil = null where o.id in :ids")
+                .setParameter("status", OutboxStatus.SENT)
+                .setParameter("sentAt", sentAt)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    /**
+     * Record a failed publish attempt and keep the rows hidden until {@code retryAt}. Rows that
+     * reached {@code maxAttempts} are moved to FAILED.
+     */
+    public int recordFailedAttempt(Collection<Long> ids, String error, int maxAttempts, Instant retryAt) {
+        if (ids.isEmpty()) return 0;
+        int updated = entityManager.createQuery(
+                        "update OutboxMessageEntity o set o.attempts = o.attempts + 1, o.lastError = :error, o.claimedUntil = :retryAt where o.id in :ids")
+                .setParameter("error", truncate(error))
+                .setParameter("retryAt", retryAt)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createQuery(
+                        "update OutboxMessageEntity o set o.status = :failed where o.id in :ids and o.attempts >= :maxAttempts")
+                .setParameter("failed", OutboxStatus.FAILED)
+                .setParameter("ids", ids)
+                .setParameter("maxAttempts", maxAttempts)
+                .executeUpdate();
+        return updated;
+    }
+
+    public int markFailed(Collection<Long> ids, String error) {
+        if (ids.isEmpty()) return 0;
+        return entityManager.createQuery(
+                        "update OutboxMessageEntity o set o.status = :status, o.lastError = :error where o.id in :ids")
+                .setParameter("status", OutboxStatus.FAILED)
+                .setParameter("error", truncate(error))
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    public int deleteSentBefore(Instant cutoff) {
+        return entityManager.createQuery(
+                        "delete from OutboxMessageEntity o where o.status = :status and o.sentAt < :cutoff")
+                .setParameter("status", OutboxStatus.SENT)
+                .setParameter("cutoff", cutoff)
+                .executeUpdate();
+    }
+
+    public long countByStatus(OutboxStatus status) {
+        return entityManager.createQuery(
+                        "select count(o) from OutboxMessageEntity o where o.status = :status", Long.class)
+                .setParameter("status", status)
+                .getSingleResult();
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) return error;
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
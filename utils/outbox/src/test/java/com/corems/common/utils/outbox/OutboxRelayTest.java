@@ -0,0 +1,213 @@
+package com.corems.common.utils.outbox;
+
+import com.corems.common.queue.QueueClient;
+import com.corems.common.queue.QueueMessage;
+import com.corems.common.queue.QueueProvider;
+import com.corems.common.queue.SupportedQueueProvider;
+import com.corems.common.queue.config.QueueProperties;
+import com.corems.common.utils.outbox.config.OutboxProperties;
+import com.corems.common.utils.outbox.entity.OutboxMessageEntity;
+import com.corems.common.utils.outbox.entity.OutboxStatus;
+import com.corems.common.utils.outbox.repo.OutboxStore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(classes = OutboxRelayTest.TestConfig.class)
+class OutboxRelayTest {
+
+    @SpringBootApplication(scanBasePackageClasses = OutboxMessageEntity.class)
+    static class TestConfig {}
+
+    @Autowired
+    private OutboxPublisher publisher;
+
+    @Autowired
+    private OutboxStore store;
+
+    @Autowired
+    private OutboxMessageCodec codec;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate tx;
+    private QueueClient queueClient;
+    private OutboxProperties properties;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(s -> entityManager.createQuery("delete from OutboxMessageEntity").executeUpdate());
+
+        QueueProperties queueProperties = new QueueProperties();
+        queueProperties.setEnabled(true);
+        QueueProvider queueProvider = new QueueProvider(queueProperties);
+        queueClient = mock(QueueClient.class);
+        queueProvider.registerProvider(SupportedQueueProvider.RABBIT_MQ, queueClient);
+
+        properties = new OutboxProperties();
+        relay = new OutboxRelay(store, codec, queueProvider, tx, properties);
+    }
+
+    @Test
+    void send_WithinTransaction_StoresPendingRow() {
+        tx.executeWithoutResult(s -> publisher.send("orders", message("ORDER_CREATED")));
+
+        assertThat(store.countByStatus(OutboxStatus.PENDING)).isEqualTo(1);
+    }
+
+    @Test
+    void send_WhenTransactionRollsBack_DiscardsRow() {
+        tx.executeWithoutResult(s -> {
+            publisher.send("orders", message("ORDER_CREATED"));
+            s.setRollbackOnly();
+        });
+
+        assertThat(store.countByStatus(OutboxStatus.PENDING)).isZero();
+    }
+
+    @Test
+    void send_WithoutTransaction_ThrowsException() {
+        assertThatThrownBy(() -> publisher.send("orders", message("ORDER_CREATED")))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relayOnce_PublishesPerDestinationAndMarksSent() {
+        QueueMessage first = message("ORDER_CREATED");
+        tx.executeWithoutResult(s -> {
+            publisher.send("orders", first);
+            publisher.send("orders", message("ORDER_UPDATED"));
+            publisher.send(message("AUDIT"));
+        });
+
+        int processed = relay.relayOnce();
+
+        assertThat(processed).isEqualTo(3);
+        ArgumentCaptor<List<QueueMessage>> ordersBatch = ArgumentCaptor.forClass(List.class);
+        verify(queueClient).sendBatch(eq("orders"), ordersBatch.capture());
+        assertThat(ordersBatch.getValue()).extracting(QueueMessage::getType).containsExactly("ORDER_CREATED", "ORDER_UPDATED");
+        assertThat(ordersBatch.getValue().get(0).getId()).isEqualTo(first.getId());
+        assertThat(ordersBatch.getValue().get(0).getCorrelationId()).isEqualTo(first.getCorrelationId());
+        verify(queueClient).sendBatch(anyList());
+        assertThat(store.countByStatus(OutboxStatus.SENT)).isEqualTo(3);
+        assertThat(relay.relayOnce()).isZero();
+    }
+
+    @Test
+    void relayOnce_WhenSendFails_KeepsRowPendingUntilMaxAttempts() {
+        properties.setMaxAttempts(2);
+        doThrow(new RuntimeException("broker down")).when(queueClient).sendBatch(anyString(), anyList());
+        tx.executeWithoutResult(s -> publisher.send("orders", message("ORDER_CREATED")));
+
+        relay.relayOnce();
+        assertThat(store.countByStatus(OutboxStatus.PENDING)).isEqualTo(1);
+
+        expireClaims();
+        relay.relayOnce();
+        assertThat(store.countByStatus(OutboxStatus.PENDING)).isZero();
+        assertThat(store.countByStatus(OutboxStatus.FAILED)).isEqualTo(1);
+    }
+
+    @Test
+    void relayOnce_WhenSendFails_WaitsForBackoffBeforeRetrying() {
+        properties.setRetryBackoff(Duration.ofSeconds(30));
+        doThrow(new RuntimeException("broker down")).doNothing().when(queueClient).sendBatch(anyString(), anyList());
+        tx.executeWithoutResult(s -> publisher.send("orders", message("ORDER_CREATED")));
+
+        Instant before = Instant.now();
+        assertThat(relay.relayOnce()).isZero();
+        assertThat(relay.relayOnce()).isZero();
+
+        verify(queueClient, times(1)).sendBatch(anyString(), anyList());
+        OutboxMessageEntity row = tx.execute(s -> entityManager.createQuery("select o from OutboxMessageEntity o", OutboxMessageEntity.class).getSingleResult());
+        assertThat(row.getAttempts()).isEqualTo(1);
+        assertThat(row.getClaimedUntil()).isAfterOrEqualTo(before.plusSeconds(30));
+
+        expireClaims();
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(store.countByStatus(OutboxStatus.SENT)).isEqualTo(1);
+    }
+
+    @Test
+    void backoff_DoublesPerAttemptUpToMax() {
+        properties.setRetryBackoff(Duration.ofSeconds(1));
+        properties.setMaxRetryBackoff(Duration.ofSeconds(10));
+
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(relay.backoff(10)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void relayOnce_SendsOutsideTheLockingTransaction() {
+        AtomicBoolean sentInTransaction = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            sentInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(queueClient).sendBatch(anyString(), anyList());
+        tx.executeWithoutResult(s -> publisher.send("orders", message("ORDER_CREATED")));
+
+        relay.relayOnce();
+
+        assertThat(sentInTransaction).isFalse();
+        assertThat(store.countByStatus(OutboxStatus.SENT)).isEqualTo(1);
+    }
+
+    @Test
+    void relayOnce_SkipsClaimedRowsUntilClaimExpires() {
+        tx.executeWithoutResult(s -> publisher.send("orders", message("ORDER_CREATED")));
+        List<Long> ids = tx.execute(s -> entityManager.createQuery("select o.id from OutboxMessageEntity o", Long.class).getResultList());
+
+        tx.executeWithoutResult(s -> store.claim(ids, Instant.now().plusSeconds(60)));
+        assertThat(relay.relayOnce()).isZero();
+
+        tx.executeWithoutResult(s -> store.claim(ids, Instant.now().minusSeconds(1)));
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(store.countByStatus(OutboxStatus.SENT)).isEqualTo(1);
+    }
+
+    private void expireClaims() {
+        tx.executeWithoutResult(s -> entityManager.createQuery("update OutboxMessageEntity o set o.claimedUntil = :past")
+                .setParameter("past", Instant.now().minusSeconds(1))
+                .executeUpdate());
+    }
+
+    private static QueueMessage message(String type) {
+        QueueMessage message = new QueueMessage();
+        message.setType(type);
+        message.setPayload("payload-" + type);
+        return message;
+    }
+}